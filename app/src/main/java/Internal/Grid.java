@@ -1,16 +1,14 @@
 package Internal;
 
-import android.graphics.Color;
-import android.media.MediaPlayer;
 import android.os.Handler;
 import android.util.Log;
-import android.view.View;
+import android.view.Choreographer;
 
-import com.blacktowhite.R;
-
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Stack;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import Views.BoardView;
 
 /**
  * Justin Harjanto and Daniel Fang
@@ -18,82 +16,119 @@ import java.util.Stack;
  * Black To White Grid
  */
 public class Grid {
-    private Panel[][] grid;
-    public static final int GRID_SIZE = 3;
+    private BoardView boardView;
+    private Board board; // authoritative board state, the BoardView only draws it
+    private HeuristicSolver heuristic;
+    private HintVector hints; // a solution of the board kept up to date, built on first hint
+    private final SplitMix64 random; // all of the Grid's randomness, so games can be replayed
+    private long seed; // the seed of the current board
+    public static int GRID_SIZE = 3;
+    public static Topology TOPOLOGY = Topology.PLANE; // which panels a press toggles
     public static final double MARGIN_PERCENT = .03; // how much margin is in between the tiles
     private static final int MIN_BLACK_TILES = 2;
     private static final int MIN_WHITE_TILES = 2;
-    private Stack<Integer> moves;
-    private MediaPlayer m;
+    private MoveHistory moves;
+    private SoundEffects sounds;
     private int numberOfMoves;
-    private boolean isRunning;
-    private int stuckLength; // preliminary cycle detection variable
-    private Runnable runSolveAlgorithm;
     private Handler handleRunnable;
-    private int SOLVE_DELAY = 100;
-    private int MAX_DELAY = 600;
-
-    private static double conversionWeight = 1;
-    private static double edgeWeight = 0.05;
+    private static final double MIN_PRESSES_PER_SECOND = 1;
+    private static final double MAX_PRESSES_PER_SECOND = 1000;
+    private SolutionPlayer player; // animates solutions
+    private Solver solver = Solver.OPTIMAL;
+    private BackgroundSolver backgroundSolver;
+    private Future<int[]> pendingSolve; // the solve being computed in the background, if any
+    private boolean showHint; // overlay marking the panel @hint() suggests
+    private boolean showScores; // debug overlay of the heuristic score on every panel
+    private boolean scoresScheduled;
+    private double[] shownScores; // the scores currently drawn on the panels
+    private Choreographer.FrameCallback drawScores;
 
     public Grid(){
-        grid = new Panel[GRID_SIZE][GRID_SIZE];
-        moves = new Stack<Integer>();
+        this(new SplitMix64());
+    }
+
+    /**
+     * Constructs a Grid that takes every random number from the given generator.
+     * @param random the generator of the board seeds and random presses
+     */
+    public Grid(SplitMix64 random){
+        this.random = random;
+        board = new Board(GRID_SIZE, TOPOLOGY);
+        heuristic = new HeuristicSolver(board, random);
+        shownScores = new double[board.getSize() * board.getSize()];
+        drawScores = new Choreographer.FrameCallback() {
+            @Override
+            public void doFrame(long frameTimeNanos) {
+                scoresScheduled = false;
+                drawScores();
+            }
+        };
+        moves = new MoveHistory();
 
         handleRunnable = new Handler();
-        runSolveAlgorithm = new Runnable() {
+        backgroundSolver = new BackgroundSolver(new Executor() {
             @Override
-            public void run() {
-                solveIter();
-                if (!isSolved() && isRunning) {
-                    handleRunnable.postDelayed(this, SOLVE_DELAY);
-                } else if(!isRunning){
-                    Log.d("stopped", "stopped running the algorithm");
+            public void execute(Runnable command) {
+                handleRunnable.post(command);
+            }
+        });
+        player = new SolutionPlayer(new SolutionPlayer.Listener() {
+            @Override
+            public void onPress(int panel, boolean forward) {
+                if (forward) {
+                    changePanels(panel, true);
+                    numberOfMoves++;
                 } else {
-                    Log.d("solved", numberOfMoves + " moves made.");
-                    numberOfMoves = 0;
-                    moves.clear();
+                    moves.undo();
+                    changePanels(panel, false);
+                    numberOfMoves--;
                 }
             }
-        };
-    }
 
-    /**
-     * Get method for retrieving the grid.
-     * @return Panel[][] that represents the grid.
-     */
-    public Panel[][] getGrid(){
-        return grid;
+            @Override
+            public void onFinished() {
+                Log.d("solved", numberOfMoves + " moves made.");
+            }
+        }, pressesPerSecond(50));
     }
 
     /**
-     * Identifies the panel number that was pressed based on the view passed in.
-     *
-     * @param v View passed in.
-     * @return An integer represents the panel in the grid that was pressed with 0 based indexing
-     * with 0 being the top left corner of the grid, -1 if the corresponding view was not found.
+     * Attaches the view that draws the board and reports presses on its panels, and loads the
+     * sound effects from its context.
+     * @param view the BoardView to draw the board in
      */
-    private int identifyPanel(View v){
-        for (Panel[] row : grid) {
-            for (Panel p : row) {
-                if (p.getPanelView() == v) {
-                    return p.getPanelId();
-                }
-            }
+    public void setBoardView(BoardView view) {
+        boardView = view;
+        if (sounds != null) {
+            sounds.release();
         }
-        return -1;
+        sounds = new SoundEffects(view.getContext());
+        boardView.setBoard(board);
+        boardView.setOnPanelPressedListener(new BoardView.OnPanelPressedListener() {
+            @Override
+            public void onPanelPressed(int panelNumber) {
+                press(panelNumber);
+            }
+        });
     }
 
     /**
-     * Responds to a button press and changes the according panels
-     * @param v View passed in representing the Button pressed.
+     * Responds to a panel press by a player and changes the according panels. Touches on the
+     * BoardView and replayed input both come through here, by panel index.
+     * @param panelPressed the panel pressed with 0 based indexing, with 0 being the top left
+     *                     corner of the grid
      */
-    public void changePanels(View v){
-        int panelPressed = identifyPanel(v);
+    public void press(int panelPressed){
+        int size = board.getSize();
+        if (panelPressed < 0 || panelPressed >= size * size) {
+            throw new IllegalArgumentException("no panel " + panelPressed);
+        }
+        player.stop(); // the player only takes back its own moves off the top of the history
         changePanels(panelPressed, true);
         if(isSolved()){ // Check and generate a new board if it's solved.
-            m = MediaPlayer.create(v.getContext(), R.raw.shinyding);
-            m.start();
+            if (sounds != null) {
+                sounds.playSolved();
+            }
             generateBoard();
         }
     }
@@ -104,351 +139,382 @@ public class Grid {
      * @param panelPressed desired panel to change
      */
     private void changePanels(int panelPressed, boolean record) {
-        int totalGridDimensions = GRID_SIZE * GRID_SIZE;
-        int panelAbove = panelPressed - GRID_SIZE;
-        int panelBelow = panelPressed + GRID_SIZE;
-        int panelRight = panelPressed + 1;
-        int panelLeft = panelPressed - 1;
-        if (panelAbove >= 0) {
-            changeSinglePanel(panelAbove);
+        heuristic.press(panelPressed);
+        if (hints != null) {
+            hints.press(panelPressed);
         }
-        if (panelBelow < totalGridDimensions) {
-            changeSinglePanel(panelBelow);
+        if (boardView != null) {
+            boardView.invalidatePress(panelPressed);
         }
-        if (panelRight % GRID_SIZE != 0 && panelRight < totalGridDimensions){
-            changeSinglePanel(panelRight);
-        }
-        if (panelPressed % GRID_SIZE != 0 && panelLeft >= 0){
-            changeSinglePanel(panelLeft);
-        }
-        changeSinglePanel(panelPressed);
+        updateHint();
+        scheduleScores();
         if (record) {
-            moves.push(panelPressed);
+            moves.record(panelPressed);
         }
     }
 
 
     /**
-     * Runs the @solveIter() method until the board is solved
+     * Replays recorded input, pressing each panel as if it was touched.
+     * @param panels the panels pressed, in order
      */
-    public void solve(boolean delay) {
-        isRunning = true;
-        if (delay) {
-            handleRunnable.postDelayed(runSolveAlgorithm, SOLVE_DELAY);
-        } else {
-            while (!isSolved()) {
-                solveIter();
-            }
-            ArrayList<Integer> moveList = new ArrayList<Integer>();
-            while (!moves.empty()) {
-                moveList.add(0, moves.pop());
-            }
-            Log.d("moves", Arrays.toString(moveList.toArray()));
+    public void replay(int[] panels) {
+        for (int panel : panels) {
+            press(panel);
         }
     }
 
     /**
-     * @return the count of black tiles
+     * Sets the algorithm used by @solve(boolean).
+     * @param solver the desired solver
      */
-    private int getBlackTiles() {
-        int blackTiles = 0;
-        for (int i = 0; i < GRID_SIZE * GRID_SIZE; i++) {
-            if (isBlack(i) == 1) {
-                blackTiles++;
-            }
-        }
-        return blackTiles;
+    public void setSolver(Solver solver) {
+        this.solver = solver;
     }
 
     /**
-     * Runs through one iteration of the solving algorithm, which
-     * combines minimax pruning and resorts to randomization in
-     * infinite-loop situations
+     * Solves the board with the selected solver on a background thread, so the UI never waits
+     * on the computation. Once the solution is found it is either animated one move at a time
+     * or applied immediately.
+     * @param delay true to animate the solution, false to apply it all at once
      */
-    public void solveIter() { // attempting heuristic evaluation
-
-        double maxScore = -1000;
-        int index = -1;
+    public void solve(final boolean delay) {
+        stopSolving();
+        pendingSolve = backgroundSolver.solve(board, solver, new BackgroundSolver.Listener() {
+            @Override
+            public void onProgress(int movesFound) {
+                Log.d("progress", movesFound + " moves found so far.");
+            }
 
-        for (int i = 0; i < GRID_SIZE * GRID_SIZE; i++) {
-            double score = analyze(i);
-            if (score > maxScore && !moves.isEmpty() && i != moves.peek()) {
-                index = i;
-                maxScore = score;
+            @Override
+            public void onSolved(int[] moves) {
+                pendingSolve = null;
+                if (delay) {
+                    playSolution(moves);
+                } else {
+                    applySolution(moves);
+                }
             }
-        }
 
-        // counts the number of black tiles on the board
-        int blackTiles = 0;
-        for (int i = 0; i < GRID_SIZE * GRID_SIZE; i++) {
-            if (isBlack(i) == 1) {
-                blackTiles++;
+            @Override
+            public void onUnsolvable() {
+                pendingSolve = null;
+                Log.d("unsolvable", "no solution found for board " + Grid.this.toString());
             }
-        }
+        });
+    }
 
-        // if there are two black tiles on the board, the board might be stuck in
-        // an infinite loop
-        if (getBlackTiles() == 2) {
-            stuckLength++;
-        } else {
-            stuckLength = 0;
+    /**
+     * Animates the given solution with the @SolutionPlayer, at the speed set by
+     * @setSolveSpeed(int).
+     * @param moves the panels to press, in order
+     */
+    private void playSolution(int[] moves) {
+        if (moves.length > 0) {
+            numberOfMoves = 0; // counts the moves played, not the presses made before
+            player.play(moves);
         }
+    }
 
-        // if a loop is detected (stuck for > 3 cycles), breaks the cycle
-        if (stuckLength >= 3) {
-            changePanels(4, true);
-            changePanels(8, true);
-            stuckLength = 0;
-        } else if (index == -1) { // if no suitable index is found, chooses a random tile
-            changePanels((int) Math.random() * (GRID_SIZE * GRID_SIZE - 1), true);
-        } else {                  // otherwise, switches the minimax-determined tile
-            changePanels(index, true);
+    /**
+     * Pauses the animated solution, keeping its position.
+     */
+    public void pauseSolution() {
+        player.pause();
+    }
+
+    /**
+     * Continues the animated solution from where it was paused, in the direction it was playing.
+     */
+    public void resumeSolution() {
+        boolean movesLeft = player.isForward() ? player.getPosition() < player.getLength()
+                : player.getPosition() > 0;
+        if (movesLeft) {
+            player.resume();
         }
-        numberOfMoves++;
     }
 
     /**
-     * Checks the history of moves and undoes the most recent move
-     * (if any have been made)
+     * Plays the animated solution in the other direction, taking back its moves when reversed.
      */
-    public void undo() {
-        if (!moves.isEmpty()) {
-            int move = moves.pop();
-            changePanels(move, false);
+    public void reverseSolution() {
+        player.reverse();
+    }
+
+    /**
+     * Jumps to any point of the animated solution at once.
+     * @param position the number of moves of the solution that should be pressed
+     */
+    public void seekSolution(int position) {
+        player.seek(position);
+    }
+
+    /**
+     * Presses every panel of the given solution at once.
+     * @param presses the panels to press, in order
+     */
+    private void applySolution(int[] presses) {
+        for (int panel : presses) {
+            changePanels(panel, true);
         }
+        Log.d("moves", Arrays.toString(moves.toArray()));
     }
 
     /**
-     * Changes the panel from white -> black or black -> white depending on
-     * its initial state.
-     *
-     * @param panelNumber Panel number in the grid.
+     * Runs through one iteration of solving, pressing the panel @hint() suggests.
      */
-    private void changeSinglePanel(int panelNumber) {
-        int row = panelNumber / grid.length;
-        int col = panelNumber % grid.length;
-        if(row >= grid.length || row < 0){
-            Log.d("row", row + "");
+    public void solveIter() {
+        player.stop();
+        int panel = hint();
+        if (panel != -1) {
+            changePanels(panel, true);
+            numberOfMoves++;
         }
-        if(col >= grid.length || col < 0){
-            Log.d("col", col + "");
+    }
+
+    /**
+     * Suggests the next panel to press. On grids of up to @DistanceTable.MAX_SIZE the hint is
+     * always on a solution with the fewest presses, on larger ones it is on the solution the
+     * @HintVector keeps, which is built on the first hint and never solved again after that.
+     * @return the panel to press next, or -1 if the board is solved or cannot be solved
+     */
+    public int hint() {
+        int size = board.getSize();
+        if (size <= DistanceTable.MAX_SIZE) {
+            return DistanceTable.forSize(board.getTopology(), size).nextPress(board);
         }
-        grid[row][col].changeColor();
-        if (grid[row][col].getColor()) {
-            grid[row][col].getPanelView().setBackgroundColor(Color.WHITE);
-        } else {
-            grid[row][col].getPanelView().setBackgroundColor(Color.BLACK);
+        if (hints == null) {
+            hints = new HintVector(board); // only grids that are hinted pay for the press matrix
         }
+        return hints.nextPress();
     }
 
     /**
-     * Generates a board to ensure that the Board isn't already solved.
-     * pre : All Panels in grid are initialized.
-     * post: All Panels in grid are not all white.
+     * Turns the overlay marking the panel @hint() suggests on or off.
+     * @param show true to show the hint, false to hide it
      */
-    public void generateBoard() {
-        randomizePanels();
-        calculateEdgeWeights();
+    public void setShowHint(boolean show) {
+        showHint = show;
+        updateHint();
     }
 
     /**
-     * Generates a board based on the given board state
-     * @param id String representation of the board state
+     * @return true if the hint overlay is shown
      */
-    public void generateBoard(String id) {
-        if (id.length() != GRID_SIZE * GRID_SIZE) {
-            generateBoard();
-        } else {
-            for (int i = 0; i < GRID_SIZE * GRID_SIZE; i++) {
-                int row = i / GRID_SIZE;
-                int col = i % GRID_SIZE;
-                boolean isWhite = id.charAt(i) == '0';
-                grid[row][col].changeColor(isWhite);
-            }
+    public boolean isShowingHint() {
+        return showHint;
+    }
+
+    /**
+     * Moves the hint overlay to the panel @hint() suggests now.
+     */
+    private void updateHint() {
+        if (boardView != null) {
+            boardView.setHintPanel(showHint ? hint() : -1);
         }
     }
+
     /**
-     * Says whether or not if the board is already solved.
-     * @return boolean representing if the board is already solved (all white), false if not
+     * Turns the debug overlay of the heuristic score on every panel on or off.
+     * @param show true to show the scores, false to hide them
      */
-    private boolean isSolved(){
-        for(Panel[] row : grid){
-            for(Panel p : row){
-                if(!p.getColor()){ // if Panel is black...
-                    return false;
-                }
+    public void setShowScores(boolean show) {
+        showScores = show;
+        Arrays.fill(shownScores, Double.NaN);
+        if (show) {
+            scheduleScores();
+        } else if (boardView != null) {
+            for (int i = 0; i < board.getSize() * board.getSize(); i++) {
+                boardView.setPanelText(i, null);
             }
         }
-        return true;
     }
 
     /**
-     * Randomizes all the panels in a given grid of Panels.
+     * Redraws the score overlay on the next frame, no matter how many presses happen before it.
      */
-    private void randomizePanels(){
-        int numBlackPanels = 0;
-        int numWhitePanels = 0;
-        while(numBlackPanels < MIN_BLACK_TILES || numWhitePanels < MIN_WHITE_TILES){
-            for(Panel[] row : grid){
-                for(Panel p : row){
-                    p.generatePanel();
-                }
-            }
-            numBlackPanels = 0;
-            numWhitePanels = 0;
-            for(Panel[] row : grid){
-                for(Panel p : row){
-                    if(!p.getColor()){ // If the panel is black...
-                        numBlackPanels++;
-                    } else {
-                        numWhitePanels++;
-                    }
-                }
-            }
+    private void scheduleScores() {
+        if (showScores && !scoresScheduled && boardView != null) {
+            scoresScheduled = true;
+            Choreographer.getInstance().postFrameCallback(drawScores);
         }
     }
 
-    private void calculateEdgeWeights() {
-        int maxWeight = (GRID_SIZE % 2 == 1) ? GRID_SIZE: GRID_SIZE - 1;
-        int currentWeight = maxWeight;
-        for (int row = 0; row < GRID_SIZE; row++) {
-            for (int col = 0; col < GRID_SIZE; col++) {
-                grid[row][col].setEdgeWeight(currentWeight);
-                if (col != GRID_SIZE - 1) {
-                    if (GRID_SIZE % 2 == 1) { // odd
-                        currentWeight = col < GRID_SIZE / 2 ? currentWeight - 1 : currentWeight + 1;
-                    } else { // even
-                        if (col < GRID_SIZE / 2 - 1) {
-                            currentWeight--;
-                        } else if (col > GRID_SIZE / 2 - 1) {
-                            currentWeight++;
-                        }
-                    }
-                }
-            }
-            if (GRID_SIZE % 2 == 1) { // odd
-                currentWeight = row < GRID_SIZE / 2 ? currentWeight - 1: currentWeight + 1;
-            } else { // even
-                if (row < GRID_SIZE / 2 - 1) {
-                    currentWeight--;
-                } else if (row > GRID_SIZE / 2 - 1) {
-                    currentWeight++;
-                }
+    /**
+     * Writes the heuristic score on every panel whose score changed since it was last drawn.
+     */
+    private void drawScores() {
+        if (!showScores) {
+            return;
+        }
+        for (int i = 0; i < board.getSize() * board.getSize(); i++) {
+            double score = heuristic.getScore(i);
+            if (score != shownScores[i]) {
+                shownScores[i] = score;
+                boardView.setPanelText(i, "T: " + score + " C: " + heuristic.getConversionScore(i)
+                        + " E: " + heuristic.getEdgeScore(i));
             }
         }
     }
 
     /**
-     * Calculates the net gain of selecting the given panel
-     * @param panelNumber the desired panel
-     * @return (#black panels - #white panels), net gain
+     * Checks the history of moves and undoes the most recent move
+     * (if any have been made)
      */
-    private double analyze(int panelNumber) {
-        double score = 0;
-        int totalGridDimensions = GRID_SIZE * GRID_SIZE;
-        int panelAbove = panelNumber - GRID_SIZE;
-        int panelBelow = panelNumber + GRID_SIZE;
-        int panelRight = panelNumber + 1;
-        int panelLeft = panelNumber - 1;
-
-        //heuristic 1: conversion score
-        int conversionScore = isBlack(panelNumber);
-
-        //heuristic 2: edge score
-        int edgeScore = getPanelEdgeScore(panelNumber);
-
-        if (panelAbove >= 0) {
-            conversionScore += isBlack(panelAbove);
-            edgeScore += getPanelEdgeScore(panelAbove);
+    public void undo() {
+        player.stop();
+        int move = moves.undo();
+        if (move != -1) {
+            changePanels(move, false);
         }
-        if (panelBelow < totalGridDimensions) {
-            conversionScore += isBlack(panelBelow);
-            edgeScore += getPanelEdgeScore(panelBelow);
+    }
 
+    /**
+     * Presses the most recently undone move again (if any have been undone since the last move)
+     */
+    public void redo() {
+        player.stop();
+        int move = moves.redo();
+        if (move != -1) {
+            changePanels(move, false);
         }
-        if (panelRight % GRID_SIZE != 0 && panelRight < totalGridDimensions){
-            conversionScore += isBlack(panelRight);
-            edgeScore += getPanelEdgeScore(panelRight);
+    }
+
+    /**
+     * Moves the board to any point in the history of moves, as if moves were undone or redone
+     * until reaching it.
+     * @param position the number of moves made at that point
+     */
+    public void jumpTo(int position) {
+        moves.jumpTo(position, board);
+        boardChanged();
+    }
+
+    /**
+     * Catches the heuristic, the hints and the board view up after the board was changed other
+     * than by pressing a panel.
+     */
+    private void boardChanged() {
+        player.stop(); // its moves no longer apply to the board
+        heuristic.reset();
+        if (hints != null) {
+            hints.reset();
         }
-        if (panelNumber % GRID_SIZE != 0 && panelLeft >= 0){
-            conversionScore += isBlack(panelLeft);
-            edgeScore += getPanelEdgeScore(panelLeft);
+        if (boardView != null) {
+            boardView.invalidate();
         }
-        int row = panelNumber / GRID_SIZE;
-        int col = panelNumber % GRID_SIZE;
+        updateHint();
+        scheduleScores();
+    }
 
-        score = (conversionWeight * conversionScore) + (edgeWeight * edgeScore);
-        grid[row][col].setText("T: " + score + " C: " + conversionWeight * conversionScore + " E: " + edgeWeight * edgeScore);
-        return score;
+    /**
+     * Generates a board to ensure that the Board isn't already solved.
+     * post: All Panels in grid are not all white.
+     */
+    public void generateBoard() {
+        generateBoard(random.nextLong());
     }
 
     /**
-     * Used to describe the net gain of a tile
-     * @param panelNumber
-     * @return 1 for a black panel, -1 for a white panel
+     * Generates the board of the given seed, which is always solvable and the same for the same
+     * seed and grid size.
+     * @param seed the seed of the board, as returned by @getSeed()
      */
-    private int isBlack(int panelNumber) {
-        int row = panelNumber / GRID_SIZE;
-        int col = panelNumber % GRID_SIZE;
-        if(grid[row][col].getColor()){
-            return -1;
+    public void generateBoard(long seed) {
+        this.seed = seed;
+        BoardGenerator.generate(board, seed, MIN_BLACK_TILES, MIN_WHITE_TILES);
+        moves.clear();
+        boardChanged();
+    }
+
+    /**
+     * @return the seed of the current board, or of the last generated board if it was loaded
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Generates a board based on the given board state, or a random board if the id does not
+     * match the grid size.
+     * @param id String representation of the board state, as returned by @toString()
+     */
+    public void generateBoard(String id) {
+        if (!board.load(id)) {
+            generateBoard();
         } else {
-            return 1;
+            moves.clear();
+            boardChanged();
         }
     }
-
     /**
-     * @param panelNumber the desired panel
-     * @return the edge weight of the given panelNumber
+     * Says whether or not if the board is already solved.
+     * @return boolean representing if the board is already solved (all white), false if not
      */
-    private int getPanelEdgeScore(int panelNumber) {
-        int row = panelNumber / GRID_SIZE;
-        int col = panelNumber % GRID_SIZE;
-        return grid[row][col].getEdgeWeight();
+    private boolean isSolved(){
+        return board.isSolved();
     }
 
     /**
-     * Stops running the algorithm.
+     * Stops running the algorithm, cancelling the background solve if it is still computing.
      */
     public void stopSolving(){
-        isRunning = false;
+        if (pendingSolve != null) {
+            pendingSolve.cancel(true);
+            pendingSolve = null;
+        }
+        if (player.isPlaying()) {
+            Log.d("stopped", "stopped running the algorithm");
+        }
+        if (player.getLength() > 0 && player.getPosition() == player.getLength()) {
+            // the solution was played to the end, so the next game starts with a fresh history
+            numberOfMoves = 0;
+            moves.clear();
+        }
+        player.stop();
+    }
+
+    /**
+     * Stops solving and releases the background solver thread and the sound effects. The Grid
+     * cannot solve or play sounds afterwards.
+     */
+    public void release() {
+        stopSolving();
+        backgroundSolver.shutdown();
+        if (sounds != null) {
+            sounds.release();
+            sounds = null;
+        }
     }
 
     /**
-     * Stringifies the board into a series of 0s and 1s for white and black, respectively
+     * Stringifies the board into its compact id, see @Board.toString()
      * @return the String id for the current board
      */
     public String toString() {
-        String id = "";
-        for(Panel[] row : grid){
-            for(Panel p : row){
-                if(p.getColor()){ // If the panel is white...
-                    id+= "0";
-                } else {
-                    id+= "1";
-                }
-            }
-        }
-        return id;
+        return board.toString();
     }
 
     /**
-     * Sets solve delay.
-     * @param delay How much of a delay there will be between iterations.
+     * Sets how fast solutions are animated.
+     * @param speed from 0 for one press a second to 100 for a thousand, evenly spaced in
+     *              between on a logarithmic scale
      */
-    public void setSolveDelay(int delay){
-        SOLVE_DELAY = MAX_DELAY - delay * 8;
+    public void setSolveSpeed(int speed){
+        player.setPressesPerSecond(pressesPerSecond(speed));
+    }
+
+    private static double pressesPerSecond(int speed) {
+        double range = MAX_PRESSES_PER_SECOND / MIN_PRESSES_PER_SECOND;
+        return MIN_PRESSES_PER_SECOND * Math.pow(range, speed / 100.0);
     }
 
     /**
      * Used for debugging, sets the entire grid back to black.
      */
     public void resetToBlack(){
-        for(Panel[] row : grid){
-            for(Panel p : row){
-                p.changeColor(false);
-            }
-        }
+        board.fill(true);
+        boardChanged();
     }
 
     /**
@@ -457,7 +523,7 @@ public class Grid {
      */
     public void randomTilePresses(int times){
         for(int i = 0; i < times; i++){
-            changePanels((int) (Math.random() * Panel.panelNumber), false);
+            changePanels(random.nextInt(board.getSize() * board.getSize()), false);
         }
     }
 
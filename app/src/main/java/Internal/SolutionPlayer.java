@@ -0,0 +1,197 @@
+package Internal;
+
+import android.view.Choreographer;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite solution player
+ *
+ * Plays a precomputed list of moves on Choreographer frames at a fixed number of presses per
+ * second, pressing as many moves in a frame as the time since the last frame calls for. The
+ * moves are computed beforehand, so a frame only ever costs its presses, whatever the board size.
+ * Since pressing a panel twice undoes it, playing backwards presses the same moves again.
+ */
+public class SolutionPlayer {
+    private static final long MAX_FRAME_NANOS = 100000000L; // longer gaps are not caught up on
+
+    /**
+     * Applies the moves of the solution being played.
+     */
+    public interface Listener {
+        /**
+         * Called for every move played.
+         * @param panel the panel to press
+         * @param forward true if the move is played forwards, false if it is being taken back
+         */
+        void onPress(int panel, boolean forward);
+
+        /**
+         * Called once playing forwards reaches the end of the moves.
+         */
+        void onFinished();
+    }
+
+    private final Listener listener;
+    private final Choreographer.FrameCallback frame;
+    private int[] moves = new int[0];
+    private int position; // moves played
+    private double pressesPerSecond;
+    private boolean playing;
+    private boolean forward = true;
+    private boolean frameScheduled;
+    private long lastFrameNanos;
+    private double pending; // fraction of a press carried over to the next frame
+
+    /**
+     * Constructs a stopped player.
+     * @param listener the listener to press the moves
+     * @param pressesPerSecond how many moves to play every second
+     */
+    public SolutionPlayer(Listener listener, double pressesPerSecond) {
+        this.listener = listener;
+        this.pressesPerSecond = pressesPerSecond;
+        this.frame = new Choreographer.FrameCallback() {
+            @Override
+            public void doFrame(long frameTimeNanos) {
+                frameScheduled = false;
+                advance(frameTimeNanos);
+            }
+        };
+    }
+
+    /**
+     * Starts playing the given moves forwards from the first one.
+     * @param moves the panels to press, in order
+     */
+    public void play(int[] moves) {
+        this.moves = moves;
+        position = 0;
+        forward = true;
+        resume();
+    }
+
+    /**
+     * Stops pressing moves, keeping the position.
+     */
+    public void pause() {
+        playing = false;
+        if (frameScheduled) {
+            frameScheduled = false;
+            Choreographer.getInstance().removeFrameCallback(frame);
+        }
+    }
+
+    /**
+     * Continues pressing moves from the position, in the current direction.
+     */
+    public void resume() {
+        playing = true;
+        lastFrameNanos = -1;
+        pending = 0;
+        scheduleFrame();
+    }
+
+    /**
+     * Stops playing and forgets the moves. The moves already played stay pressed.
+     */
+    public void stop() {
+        pause();
+        moves = new int[0];
+        position = 0;
+    }
+
+    /**
+     * Presses or takes back every move between the position and the given one at once.
+     * @param target the number of moves that should be played, clamped to the moves
+     */
+    public void seek(int target) {
+        target = Math.max(0, Math.min(moves.length, target));
+        while (position < target) {
+            listener.onPress(moves[position++], true);
+        }
+        while (position > target) {
+            listener.onPress(moves[--position], false);
+        }
+    }
+
+    /**
+     * Plays the moves in the other direction from now on.
+     */
+    public void reverse() {
+        forward = !forward;
+        if (playing) {
+            scheduleFrame();
+        }
+    }
+
+    /**
+     * @param pressesPerSecond how many moves to play every second
+     */
+    public void setPressesPerSecond(double pressesPerSecond) {
+        this.pressesPerSecond = pressesPerSecond;
+    }
+
+    /**
+     * @return true if moves are being pressed on every frame
+     */
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    /**
+     * @return true if the moves are played forwards, false if they are being taken back
+     */
+    public boolean isForward() {
+        return forward;
+    }
+
+    /**
+     * @return the number of moves played
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the number of moves in the solution
+     */
+    public int getLength() {
+        return moves.length;
+    }
+
+    private void scheduleFrame() {
+        if (!frameScheduled) {
+            frameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(frame);
+        }
+    }
+
+    /**
+     * Presses the moves due since the last frame, then waits for the next frame or stops at
+     * either end of the moves.
+     */
+    private void advance(long frameTimeNanos) {
+        if (!playing) {
+            return;
+        }
+        if (lastFrameNanos != -1) {
+            long elapsed = Math.min(frameTimeNanos - lastFrameNanos, MAX_FRAME_NANOS);
+            pending += elapsed * pressesPerSecond / 1e9;
+        }
+        lastFrameNanos = frameTimeNanos;
+        int presses = (int) pending;
+        pending -= presses;
+        int target = forward ? Math.min(moves.length, position + presses)
+                : Math.max(0, position - presses);
+        seek(target);
+        if (forward && position == moves.length) {
+            playing = false;
+            listener.onFinished();
+        } else if (!forward && position == 0) {
+            playing = false;
+        } else {
+            scheduleFrame();
+        }
+    }
+}
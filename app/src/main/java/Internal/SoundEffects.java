@@ -0,0 +1,61 @@
+package Internal;
+
+import android.content.Context;
+import android.media.AudioManager;
+import android.media.SoundPool;
+
+import com.blacktowhite.R;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite sound effects
+ *
+ * Decodes every sound effect once into a SoundPool, so playing one is only a mix of samples that
+ * are already in memory. Decoding happens off the UI thread, and a sound played before it is
+ * decoded is skipped rather than waited on.
+ */
+public class SoundEffects {
+    private static final int MAX_STREAMS = 2; // so back to back solves can overlap
+    private static final int NO_SOUND = 0;
+
+    private SoundPool pool;
+    private final int solved;
+    private boolean solvedLoaded;
+
+    /**
+     * Starts decoding every sound effect.
+     * @param context the context to load the sound resources from
+     */
+    public SoundEffects(Context context) {
+        pool = new SoundPool(MAX_STREAMS, AudioManager.STREAM_MUSIC, 0);
+        pool.setOnLoadCompleteListener(new SoundPool.OnLoadCompleteListener() {
+            @Override
+            public void onLoadComplete(SoundPool soundPool, int sampleId, int status) {
+                if (status == 0 && sampleId == solved) {
+                    solvedLoaded = true;
+                }
+            }
+        });
+        solved = pool.load(context, R.raw.shinyding, 1);
+    }
+
+    /**
+     * Plays the sound of a solved board.
+     */
+    public void playSolved() {
+        if (pool != null && solvedLoaded && solved != NO_SOUND) {
+            pool.play(solved, 1, 1, 1, 0, 1);
+        }
+    }
+
+    /**
+     * Frees the decoded sounds. Nothing is played afterwards.
+     */
+    public void release() {
+        if (pool != null) {
+            pool.release();
+            pool = null;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package Views;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.View;
+
+import Internal.Board;
+import Internal.Grid;
+import Internal.Neighborhood;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite Board View
+ *
+ * Draws every panel of a Board in a single view, replacing the old table of Buttons.
+ */
+public class BoardView extends View {
+    private static final float MAX_MARGIN_PERCENT = .1f; // of a panel, so big boards stay visible
+
+    /**
+     * Listens for presses on the panels of the board.
+     */
+    public interface OnPanelPressedListener {
+        /**
+         * Called when a panel is touched.
+         * @param panelNumber the panel pressed with 0 based indexing, with 0 being the top left
+         *                    corner of the grid
+         */
+        void onPanelPressed(int panelNumber);
+    }
+
+    private Board board;
+    private OnPanelPressedListener listener;
+    private String[] panelText; // debug text drawn on top of each panel, null entries are blank
+    private int hintPanel = -1; // the panel marked as the next to press, or -1
+    private Paint whitePaint;
+    private Paint blackPaint;
+    private Paint textPaint;
+    private Paint hintPaint;
+    private Rect clip;
+    private float panelWidth;
+    private float panelHeight;
+    private float marginHorizontal; // on each side of a panel
+    private float marginVertical;
+
+    public BoardView(Context context) {
+        super(context);
+        init();
+    }
+
+    public BoardView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init();
+    }
+
+    private void init() {
+        whitePaint = new Paint();
+        whitePaint.setColor(Color.WHITE);
+        blackPaint = new Paint();
+        blackPaint.setColor(Color.BLACK);
+        textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        textPaint.setColor(Color.GRAY);
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        hintPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        hintPaint.setColor(Color.GRAY);
+        clip = new Rect();
+    }
+
+    /**
+     * Sets the board to draw. The view only reads the board, so it has to be invalidated through
+     * @invalidatePress(int) or @invalidate() whenever the board changes.
+     * @param board the board to draw
+     */
+    public void setBoard(Board board) {
+        this.board = board;
+        this.panelText = new String[board.getSize() * board.getSize()];
+        this.hintPanel = -1;
+        measurePanels(getWidth(), getHeight());
+        invalidate();
+    }
+
+    /**
+     * @param listener the listener to notify when a panel is touched
+     */
+    public void setOnPanelPressedListener(OnPanelPressedListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the text drawn on top of a single panel.
+     * @param panelNumber the desired panel
+     * @param text the text to draw, or null for none
+     */
+    public void setPanelText(int panelNumber, String text) {
+        panelText[panelNumber] = text;
+        invalidatePanel(panelNumber);
+    }
+
+    /**
+     * Marks the panel to press next, replacing any panel marked before.
+     * @param panelNumber the panel to mark, or -1 for none
+     */
+    public void setHintPanel(int panelNumber) {
+        if (panelNumber == hintPanel) {
+            return;
+        }
+        if (hintPanel != -1) {
+            invalidatePanel(hintPanel);
+        }
+        hintPanel = panelNumber;
+        if (hintPanel != -1) {
+            invalidatePanel(hintPanel);
+        }
+    }
+
+    /**
+     * Redraws only the panels toggled by pressing the given panel.
+     * @param panelNumber the panel pressed
+     */
+    public void invalidatePress(int panelNumber) {
+        Neighborhood neighborhood = board.getNeighborhood();
+        for (int i = 0; i < neighborhood.getToggledCount(panelNumber); i++) {
+            invalidatePanel(neighborhood.getToggled(panelNumber, i));
+        }
+    }
+
+    /**
+     * Redraws a single panel.
+     */
+    private void invalidatePanel(int panelNumber) {
+        int row = panelNumber / board.getSize();
+        int col = panelNumber % board.getSize();
+        invalidate((int) (col * panelWidth), (int) (row * panelHeight),
+                (int) Math.ceil((col + 1) * panelWidth), (int) Math.ceil((row + 1) * panelHeight));
+    }
+
+    @Override
+    protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+        super.onSizeChanged(width, height, oldWidth, oldHeight);
+        measurePanels(width, height);
+    }
+
+    private void measurePanels(int width, int height) {
+        if (board == null) {
+            return;
+        }
+        panelWidth = (float) width / board.getSize();
+        panelHeight = (float) height / board.getSize();
+        marginHorizontal = Math.min(width * (float) Grid.MARGIN_PERCENT,
+                panelWidth * MAX_MARGIN_PERCENT * 2) / 2;
+        marginVertical = Math.min(height * (float) Grid.MARGIN_PERCENT,
+                panelHeight * MAX_MARGIN_PERCENT * 2) / 2;
+        textPaint.setTextSize(Math.min(panelWidth, panelHeight) / 6);
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        if (board == null) {
+            return;
+        }
+        int size = board.getSize();
+        canvas.getClipBounds(clip);
+        int firstRow = Math.max(0, (int) (clip.top / panelHeight));
+        int lastRow = Math.min(size - 1, (int) (clip.bottom / panelHeight));
+        int firstCol = Math.max(0, (int) (clip.left / panelWidth));
+        int lastCol = Math.min(size - 1, (int) (clip.right / panelWidth));
+        for (int row = firstRow; row <= lastRow; row++) {
+            long blackPanels = board.getRow(row);
+            float top = row * panelHeight;
+            for (int col = firstCol; col <= lastCol; col++) {
+                float left = col * panelWidth;
+                Paint paint = (blackPanels >>> col & 1L) != 0 ? blackPaint : whitePaint;
+                canvas.drawRect(left + marginHorizontal, top + marginVertical,
+                        left + panelWidth - marginHorizontal, top + panelHeight - marginVertical,
+                        paint);
+                if (row * size + col == hintPanel) {
+                    canvas.drawCircle(left + panelWidth / 2, top + panelHeight / 2,
+                            Math.min(panelWidth, panelHeight) / 6, hintPaint);
+                }
+                String text = panelText[row * size + col];
+                if (text != null) {
+                    canvas.drawText(text, left + panelWidth / 2, top + panelHeight / 2, textPaint);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the panel under a point of the view in constant time, from the panel dimensions.
+     * @param x the horizontal position in the view, in pixels
+     * @param y the vertical position in the view, in pixels
+     * @return the panel at that point, or -1 if there is none
+     */
+    public int panelAt(float x, float y) {
+        if (board == null || x < 0 || y < 0) {
+            return -1;
+        }
+        int row = (int) (y / panelHeight);
+        int col = (int) (x / panelWidth);
+        if (row >= board.getSize() || col >= board.getSize()) {
+            return -1;
+        }
+        return row * board.getSize() + col;
+    }
+
+    /**
+     * Presses the panel under every finger that touches the view, including the second and later
+     * fingers of a multi-touch gesture.
+     */
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (board == null) {
+            return false;
+        }
+        int action = event.getActionMasked();
+        if (action == MotionEvent.ACTION_DOWN || action == MotionEvent.ACTION_POINTER_DOWN) {
+            int pointer = event.getActionIndex();
+            int panelNumber = panelAt(event.getX(pointer), event.getY(pointer));
+            if (panelNumber != -1) {
+                performClick();
+                if (listener != null) {
+                    listener.onPanelPressed(panelNumber);
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -7,6 +7,7 @@ import android.view.MenuItem;
 import android.view.Window;
 
 import Fragments.BlackToWhiteBoardFragment;
+import Internal.PressMatrixCache;
 
 /**
  * Justin Harjanto and Daniel Fang
@@ -21,6 +22,7 @@ public class BlackToWhiteActivity extends Activity {
         super.onCreate(savedInstanceState);
         requestWindowFeature(Window.FEATURE_NO_TITLE);
         setContentView(R.layout.activity_black_to_white);
+        PressMatrixCache.setDirectory(getFilesDir());
         if (savedInstanceState == null) {
             getFragmentManager().beginTransaction()
                     .add(R.id.container, new BlackToWhiteBoardFragment())
@@ -0,0 +1,100 @@
+package Batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import Internal.Solver;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite command line batch solver
+ *
+ * Solves every board id in a file and streams a line per board to a result file, a chunk of
+ * boards at a time, so the heap stays the same size no matter how large the files get.
+ *
+ * Usage: BatchMain input output [HEURISTIC | ELIMINATION | LIGHT_CHASING | OPTIMAL], solving
+ * with ELIMINATION by default. OPTIMAL reports boards of sizes @OptimalSolver.supports(int)
+ * refuses as unsupported rather than solving them non optimally. HEURISTIC reports the solvable
+ * boards it gives up on as gave up, apart from the unsolvable ones.
+ */
+public class BatchMain {
+    private static final int CHUNK = 4096; // boards solved in parallel before writing them out
+
+    private long boards;
+    private long solved;
+    private long unsolved;
+    private long gaveUp;
+    private long invalid;
+    private long unsupported;
+    private long moves;
+
+    public static void main(String[] args) throws IOException {
+        Solver solver = args.length == 3 ? parseSolver(args[2]) : Solver.ELIMINATION;
+        if (args.length < 2 || args.length > 3 || solver == null) {
+            System.err.println("usage: BatchMain input output"
+                    + " [HEURISTIC | ELIMINATION | LIGHT_CHASING | OPTIMAL]");
+            System.exit(2);
+        }
+        long start = System.nanoTime();
+        BatchMain batch = new BatchMain();
+        batch.run(new File(args[0]), new File(args[1]), new BatchSolver(solver));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("%d boards in %.1f s (%.0f boards/s): %d solved in %d moves,"
+                        + " %d unsolved, %d gave up, %d unsupported, %d invalid%n", batch.boards,
+                seconds, batch.boards / seconds, batch.solved, batch.moves, batch.unsolved,
+                batch.gaveUp, batch.unsupported, batch.invalid);
+    }
+
+    /**
+     * @return the solver of the given name, or null if there is none
+     */
+    private static Solver parseSolver(String name) {
+        for (Solver solver : Solver.values()) {
+            if (solver.name().equals(name)) {
+                return solver;
+            }
+        }
+        return null;
+    }
+
+    private void run(File input, File output, BatchSolver solver) throws IOException {
+        List<String> ids = new ArrayList<String>(CHUNK);
+        try (BoardIdReader in = new BoardIdReader(input);
+             ResultWriter out = new ResultWriter(output)) {
+            for (String id = in.next(); id != null; id = in.next()) {
+                ids.add(id);
+                if (ids.size() == CHUNK) {
+                    solve(ids, solver, out);
+                }
+            }
+            solve(ids, solver, out);
+        }
+    }
+
+    /**
+     * Solves and writes out a chunk of ids, then empties it.
+     */
+    private void solve(List<String> ids, BatchSolver solver, ResultWriter out)
+            throws IOException {
+        for (BoardResult result : solver.solve(ids)) {
+            out.write(result);
+            boards++;
+            if (!result.isValid()) {
+                invalid++;
+            } else if (!result.isSupported()) {
+                unsupported++;
+            } else if (result.isSolved()) {
+                solved++;
+                moves += result.getMoveCount();
+            } else if (result.hasGivenUp()) {
+                gaveUp++;
+            } else {
+                unsolved++;
+            }
+        }
+        ids.clear();
+    }
+}
@@ -0,0 +1,277 @@
+package Batch;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import Internal.BitSlicedSolver;
+import Internal.Board;
+import Internal.HeuristicSolver;
+import Internal.LightChaser;
+import Internal.OptimalSolver;
+import Internal.PressMatrix;
+import Internal.Solver;
+import Internal.SplitMix64;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite batch solver
+ *
+ * Solves many boards in parallel on a ForkJoinPool, without any of the Grid or its views. Each
+ * worker thread reuses its own boards, press buffers and heuristic solvers, so solving a board
+ * allocates little more than its result.
+ */
+public class BatchSolver {
+    private static final int MAX_MOVES_PER_PANEL = 100; // the heuristic gives up after this many
+
+    private final Solver solver;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * Constructs a solver that runs on the common pool, using every core.
+     * @param solver the algorithm to solve with
+     */
+    public BatchSolver(Solver solver) {
+        this(solver, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a solver that runs on the given pool.
+     * @param solver the algorithm to solve with
+     * @param pool the pool to solve on, its parallelism is the number of boards solved at once
+     */
+    public BatchSolver(Solver solver, ForkJoinPool pool) {
+        this.solver = solver;
+        this.pool = pool;
+    }
+
+    /**
+     * Solves every board in parallel.
+     * @param ids the ids of the boards, as returned by @Board.toString()
+     * @return the result of every board, in the order of the ids
+     */
+    public List<BoardResult> solve(Collection<String> ids) {
+        return solve(ids.stream());
+    }
+
+    /**
+     * Solves every board in parallel.
+     * @param ids the ids of the boards, as returned by @Board.toString()
+     * @return the result of every board, in the order of the ids
+     */
+    public List<BoardResult> solve(Stream<String> ids) {
+        // a parallel stream started from inside a pool runs on that pool
+        return pool.submit(() -> ids.parallel().map(this::solve).collect(Collectors.toList()))
+                .join();
+    }
+
+    /**
+     * Checks which boards can be solved, without solving them. Boards of the same size are
+     * checked 64 at a time by the @BitSlicedSolver. This is its only use, since once slicing is
+     * counted, solving sliced boards is slower than solving them one at a time from 15x15 up.
+     * @param ids the ids of the boards, as returned by @Board.toString()
+     * @return for every id, true if it is a valid board id and the board can be solved
+     */
+    public boolean[] solvable(List<String> ids) {
+        boolean[] result = new boolean[ids.size()];
+        int groups = (ids.size() + BitSlicedSolver.BOARDS - 1) / BitSlicedSolver.BOARDS;
+        pool.submit(() -> IntStream.range(0, groups).parallel()
+                .forEach(group -> solvable(ids, group * BitSlicedSolver.BOARDS, result)))
+                .join();
+        return result;
+    }
+
+    /**
+     * Checks the up to 64 boards starting at from, one bit sliced pass per size among them.
+     */
+    private void solvable(List<String> ids, int from, boolean[] result) {
+        int count = Math.min(BitSlicedSolver.BOARDS, ids.size() - from);
+        Scratch buffers = scratch.get();
+        int[] sizes = buffers.sizes;
+        Board[] sliced = buffers.sliced;
+        for (int k = 0; k < count; k++) {
+            sizes[k] = Board.sizeOf(ids.get(from + k));
+        }
+        for (int k = 0; k < count; k++) {
+            int size = sizes[k];
+            if (size == -1) { // not a valid id, or checked along with an earlier board
+                continue;
+            }
+            Board[] boards = buffers.slicedBoards(size);
+            for (int m = k; m < count; m++) {
+                sliced[m] = null;
+                if (sizes[m] == size) {
+                    sizes[m] = -1;
+                    if (boards[m].load(ids.get(from + m))) {
+                        sliced[m] = boards[m];
+                    }
+                }
+            }
+            BitSlicedSolver solver = BitSlicedSolver.forSize(size);
+            long[] panels = buffers.panels(size);
+            solver.slice(sliced, k, count - k, panels);
+            long solvable = solver.solvable(panels) << k;
+            for (int m = k; m < count; m++) {
+                if (sliced[m] != null) {
+                    result[from + m] = (solvable >>> m & 1L) != 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves a single board on the calling thread, reusing the thread's buffers.
+     * @param id the id of the board, as returned by @Board.toString()
+     * @return the result of the board
+     */
+    public BoardResult solve(String id) {
+        int size = Board.sizeOf(id);
+        if (size == -1) {
+            return new BoardResult(id, -1, null, 0);
+        }
+        Scratch buffers = scratch.get();
+        Board board = buffers.board(size);
+        if (!board.load(id)) {
+            return new BoardResult(id, -1, null, 0);
+        }
+        long start = System.nanoTime();
+        int[] moves;
+        long[] presses;
+        switch (solver) {
+            case ELIMINATION:
+                moves = PressMatrix.forSize(size).solve(board);
+                break;
+            case LIGHT_CHASING:
+                presses = buffers.presses(size);
+                moves = LightChaser.forSize(size).solve(board, presses)
+                        ? LightChaser.toPanels(presses) : null;
+                break;
+            case OPTIMAL:
+                if (!OptimalSolver.supports(size)) {
+                    return BoardResult.unsupported(id, size);
+                }
+                presses = buffers.presses(size);
+                moves = OptimalSolver.forSize(size).solve(board, presses)
+                        ? LightChaser.toPanels(presses) : null;
+                break;
+            default:
+                // the heuristic cannot tell an unsolvable board from one it failed on, so the
+                // light chaser tells first
+                presses = buffers.presses(size);
+                if (!LightChaser.forSize(size).solve(board, presses)) {
+                    moves = null;
+                } else {
+                    moves = solveHeuristic(board, buffers);
+                    if (moves == null) {
+                        return BoardResult.gaveUp(id, size, System.nanoTime() - start);
+                    }
+                }
+                break;
+        }
+        return new BoardResult(id, size, moves, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays the heuristic on the board until it is solved or gives up.
+     */
+    private static int[] solveHeuristic(Board board, Scratch buffers) {
+        HeuristicSolver heuristic = buffers.heuristic(board);
+        int maxMoves = MAX_MOVES_PER_PANEL * board.getSize() * board.getSize();
+        int count = 0;
+        while (!board.isSolved()) {
+            if (count >= maxMoves) {
+                return null;
+            }
+            int panel = heuristic.nextMove(count == 0 ? -1 : buffers.moves[count - 1]);
+            heuristic.press(panel);
+            buffers.record(count++, panel);
+        }
+        int[] moves = new int[count];
+        System.arraycopy(buffers.moves, 0, moves, 0, count);
+        return moves;
+    }
+
+    /**
+     * The buffers of one worker thread.
+     */
+    private static class Scratch {
+        private final Board[] boards = new Board[65];
+        private final long[][] presses = new long[65][];
+        private int[] moves = new int[1024];
+        private final int[] sizes = new int[BitSlicedSolver.BOARDS];
+        private final Board[] sliced = new Board[BitSlicedSolver.BOARDS];
+        private final Board[][] slicedBoards = new Board[65][];
+        private final long[][] panels = new long[65][];
+        private final HeuristicSolver[] heuristics = new HeuristicSolver[65];
+        private final SplitMix64 random = new SplitMix64(0);
+
+        private Board board(int size) {
+            if (boards[size] == null) {
+                boards[size] = new Board(size);
+            }
+            return boards[size];
+        }
+
+        /**
+         * @return the heuristic solver of the board's size, reset onto the board and seeded as
+         *         a new HeuristicSolver would be, so results never depend on earlier boards
+         */
+        private HeuristicSolver heuristic(Board board) {
+            int size = board.getSize();
+            random.setSeed(0);
+            if (heuristics[size] == null) {
+                heuristics[size] = new HeuristicSolver(board, random);
+            } else {
+                heuristics[size].reset(board);
+            }
+            return heuristics[size];
+        }
+
+        /**
+         * @return the packed presses of a board of the given size
+         */
+        private long[] presses(int size) {
+            if (presses[size] == null) {
+                presses[size] = new long[size];
+            }
+            return presses[size];
+        }
+
+        /**
+         * @return 64 boards of the given size to slice
+         */
+        private Board[] slicedBoards(int size) {
+            if (slicedBoards[size] == null) {
+                slicedBoards[size] = new Board[BitSlicedSolver.BOARDS];
+                for (int i = 0; i < BitSlicedSolver.BOARDS; i++) {
+                    slicedBoards[size][i] = new Board(size);
+                }
+            }
+            return slicedBoards[size];
+        }
+
+        /**
+         * @return the bit sliced panels of 64 boards of the given size
+         */
+        private long[] panels(int size) {
+            if (panels[size] == null) {
+                panels[size] = new long[size * size];
+            }
+            return panels[size];
+        }
+
+        private void record(int index, int panel) {
+            if (index == moves.length) {
+                int[] grown = new int[moves.length * 2];
+                System.arraycopy(moves, 0, grown, 0, moves.length);
+                moves = grown;
+            }
+            moves[index] = panel;
+        }
+    }
+}
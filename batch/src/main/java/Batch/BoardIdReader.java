@@ -0,0 +1,100 @@
+package Batch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite board id reader
+ *
+ * Reads board ids, one per line, from a file of any size. The file is memory mapped one window at
+ * a time, so only a window and the current line are ever held, however large the file is.
+ */
+public class BoardIdReader implements Closeable {
+    private static final long WINDOW_BYTES = 64L << 20;
+    private static final int MAX_ID_LENGTH = 64 * 64; // the old 0/1 id of the largest board
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long length;
+    private final long windowBytes;
+    private final byte[] line = new byte[MAX_ID_LENGTH];
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    /**
+     * Opens the file and maps its first window.
+     * @param input the file of board ids, as returned by @Board.toString()
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public BoardIdReader(File input) throws IOException {
+        this(input, WINDOW_BYTES);
+    }
+
+    /**
+     * Opens the file and maps its first window.
+     * @param input the file of board ids, as returned by @Board.toString()
+     * @param windowBytes the size of each mapped window, smaller only to test window boundaries
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    BoardIdReader(File input, long windowBytes) throws IOException {
+        this.windowBytes = windowBytes;
+        this.file = new RandomAccessFile(input, "r");
+        this.channel = file.getChannel();
+        this.length = channel.size();
+        map(0);
+    }
+
+    /**
+     * Reads the next board id, skipping blank lines.
+     * @return the next id, an empty id for a line too long to be any board id, or null at the
+     *         end of the file
+     * @throws IOException if the next window cannot be mapped
+     */
+    public String next() throws IOException {
+        int count = 0;
+        boolean tooLong = false;
+        while (true) {
+            if (!window.hasRemaining()) {
+                long next = windowStart + window.limit();
+                if (next >= length) {
+                    break;
+                }
+                map(next);
+            }
+            byte b = window.get();
+            if (b == '\n') {
+                if (count > 0 || tooLong) {
+                    break;
+                }
+            } else if (b != '\r') {
+                if (count < line.length) {
+                    line[count++] = b;
+                } else {
+                    tooLong = true;
+                }
+            }
+        }
+        if (tooLong) {
+            return "";
+        }
+        return count == 0 ? null : new String(line, 0, count, StandardCharsets.US_ASCII);
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                Math.min(windowBytes, length - start));
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
@@ -0,0 +1,109 @@
+package Batch;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite batch board result
+ *
+ * The solution and stats of one board solved by the @BatchSolver.
+ */
+public class BoardResult {
+    private final String id;
+    private final int size;
+    private final int[] moves;
+    private final long solveNanos;
+    private final boolean supported;
+    private final boolean gaveUp;
+
+    BoardResult(String id, int size, int[] moves, long solveNanos) {
+        this(id, size, moves, solveNanos, true, false);
+    }
+
+    private BoardResult(String id, int size, int[] moves, long solveNanos, boolean supported,
+                        boolean gaveUp) {
+        this.id = id;
+        this.size = size;
+        this.moves = moves;
+        this.solveNanos = solveNanos;
+        this.supported = supported;
+        this.gaveUp = gaveUp;
+    }
+
+    /**
+     * @return the result of a valid board the solver cannot solve boards of its size with
+     */
+    static BoardResult unsupported(String id, int size) {
+        return new BoardResult(id, size, null, 0, false, false);
+    }
+
+    /**
+     * @return the result of a board that can be solved, but that the heuristic gave up on
+     */
+    static BoardResult gaveUp(String id, int size, long solveNanos) {
+        return new BoardResult(id, size, null, solveNanos, true, true);
+    }
+
+    /**
+     * @return the id of the board, as given to the solver
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the size of the board, or -1 if the id is not a valid board id
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return true if the id is a valid board id
+     */
+    public boolean isValid() {
+        return size != -1;
+    }
+
+    /**
+     * @return false if the solver cannot solve boards of this size, so it was not tried
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * @return true if the board can be solved but the solver gave up before it was, so unlike
+     *         the other unsolved boards it is not known to be unsolvable
+     */
+    public boolean hasGivenUp() {
+        return gaveUp;
+    }
+
+    /**
+     * @return true if the board was solved
+     */
+    public boolean isSolved() {
+        return moves != null;
+    }
+
+    /**
+     * @return the panels to press, in order, or null if the board was not solved
+     */
+    public int[] getMoves() {
+        return moves;
+    }
+
+    /**
+     * @return the number of presses in the solution, or -1 if the board was not solved
+     */
+    public int getMoveCount() {
+        return moves == null ? -1 : moves.length;
+    }
+
+    /**
+     * @return the time spent solving the board, in nanoseconds
+     */
+    public long getSolveNanos() {
+        return solveNanos;
+    }
+}
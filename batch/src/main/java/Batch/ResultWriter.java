@@ -0,0 +1,105 @@
+package Batch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite result writer
+ *
+ * Writes one line per @BoardResult to a file through memory mapped windows, growing the file a
+ * window at a time and trimming it to what was written on close. Each line is the board id, its
+ * status, the number of moves and the moves separated by commas, all separated by tabs. The
+ * status is solved, unsolved for a board that cannot be solved, gave-up for a solvable board the
+ * heuristic gave up on, unsupported or invalid.
+ */
+public class ResultWriter implements Closeable {
+    private static final long WINDOW_BYTES = 64L << 20;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long windowBytes;
+    private final StringBuilder line = new StringBuilder();
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    /**
+     * Creates or truncates the file and maps its first window.
+     * @param output the file to write the results to
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public ResultWriter(File output) throws IOException {
+        this(output, WINDOW_BYTES);
+    }
+
+    /**
+     * Creates or truncates the file and maps its first window.
+     * @param output the file to write the results to
+     * @param windowBytes the size of each mapped window, smaller only to test window boundaries
+     * @throws IOException if the file cannot be created or mapped
+     */
+    ResultWriter(File output, long windowBytes) throws IOException {
+        this.windowBytes = windowBytes;
+        this.file = new RandomAccessFile(output, "rw");
+        this.channel = file.getChannel();
+        channel.truncate(0);
+        map(0);
+    }
+
+    /**
+     * Writes the line of one result.
+     * @param result the result to write
+     * @throws IOException if the next window cannot be mapped
+     */
+    public void write(BoardResult result) throws IOException {
+        line.setLength(0);
+        line.append(result.getId()).append('\t');
+        if (!result.isValid()) {
+            line.append("invalid\t-1\t");
+        } else if (!result.isSupported()) {
+            line.append("unsupported\t-1\t");
+        } else if (result.hasGivenUp()) {
+            line.append("gave-up\t-1\t");
+        } else if (!result.isSolved()) {
+            line.append("unsolved\t-1\t");
+        } else {
+            int[] moves = result.getMoves();
+            line.append("solved\t").append(moves.length).append('\t');
+            for (int i = 0; i < moves.length; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                line.append(moves[i]);
+            }
+        }
+        line.append('\n');
+        for (int i = 0; i < line.length(); i++) {
+            if (!window.hasRemaining()) {
+                map(windowStart + window.position());
+            }
+            window.put((byte) line.charAt(i));
+        }
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_WRITE, start, windowBytes);
+    }
+
+    /**
+     * Trims the file to the lines written and closes it.
+     */
+    @Override
+    public void close() throws IOException {
+        long end = windowStart + window.position();
+        window.force();
+        window = null;
+        channel.truncate(end);
+        file.close();
+    }
+}
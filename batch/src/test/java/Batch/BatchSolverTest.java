@@ -0,0 +1,143 @@
+package Batch;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import Internal.Board;
+import Internal.BoardGenerator;
+import Internal.PressMatrix;
+import Internal.Solver;
+import Internal.SplitMix64;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite batch solver tests
+ */
+public class BatchSolverTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Test
+    public void resultsFollowTheIdsAndSolveTheirBoards() {
+        List<String> ids = randomIds(400, 1);
+        for (Solver solver : Solver.values()) {
+            List<BoardResult> results = new BatchSolver(solver, POOL).solve(ids);
+            assertEquals(ids.size(), results.size());
+            for (int i = 0; i < ids.size(); i++) {
+                BoardResult result = results.get(i);
+                assertEquals(ids.get(i), result.getId());
+                assertEquals(Board.sizeOf(ids.get(i)), result.getSize());
+                if (result.isSolved()) {
+                    Board board = board(ids.get(i));
+                    for (int panel : result.getMoves()) {
+                        board.press(panel);
+                    }
+                    assertTrue(solver + " " + ids.get(i), board.isSolved());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void exactSolversSolveEverySolvableBoard() {
+        List<String> ids = randomIds(400, 2);
+        for (Solver solver : new Solver[] {Solver.ELIMINATION, Solver.LIGHT_CHASING}) {
+            List<BoardResult> results = new BatchSolver(solver, POOL).solve(ids);
+            for (int i = 0; i < ids.size(); i++) {
+                Board board = board(ids.get(i));
+                boolean solvable = PressMatrix.forSize(board.getSize()).solve(board) != null;
+                assertEquals(solver + " " + ids.get(i), solvable, results.get(i).isSolved());
+                assertFalse(results.get(i).hasGivenUp());
+            }
+        }
+    }
+
+    @Test
+    public void heuristicOnlyGivesUpOnSolvableBoards() {
+        List<String> ids = randomIds(400, 5);
+        List<BoardResult> results = new BatchSolver(Solver.HEURISTIC, POOL).solve(ids);
+        for (int i = 0; i < ids.size(); i++) {
+            Board board = board(ids.get(i));
+            boolean solvable = PressMatrix.forSize(board.getSize()).solve(board) != null;
+            BoardResult result = results.get(i);
+            assertEquals(ids.get(i), solvable, result.isSolved() || result.hasGivenUp());
+            assertFalse(ids.get(i), result.isSolved() && result.hasGivenUp());
+        }
+    }
+
+    @Test
+    public void heuristicResultsDoNotDependOnEarlierBoards() {
+        List<String> ids = randomIds(200, 3);
+        BatchSolver solver = new BatchSolver(Solver.HEURISTIC, POOL);
+        List<BoardResult> forward = solver.solve(ids);
+        List<String> reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+        List<BoardResult> backward = solver.solve(reversed);
+        for (int i = 0; i < ids.size(); i++) {
+            BoardResult alone = solver.solve(ids.get(i));
+            int[] moves = forward.get(i).getMoves();
+            assertArrayEquals(ids.get(i), moves, backward.get(ids.size() - 1 - i).getMoves());
+            assertArrayEquals(ids.get(i), moves, alone.getMoves());
+        }
+    }
+
+    @Test
+    public void invalidIdsAreReported() {
+        List<String> ids = Arrays.asList("", "abc", "10001000x", new Board(5).toString());
+        List<BoardResult> results = new BatchSolver(Solver.ELIMINATION, POOL).solve(ids);
+        for (int i = 0; i < 3; i++) {
+            assertFalse(results.get(i).isValid());
+            assertFalse(results.get(i).isSolved());
+        }
+        assertTrue(results.get(3).isValid());
+        assertEquals(0, results.get(3).getMoveCount());
+    }
+
+    @Test
+    public void solvableAgreesWithSolving() {
+        List<String> ids = randomIds(500, 4);
+        ids.add(7, "not an id");
+        boolean[] solvable = new BatchSolver(Solver.ELIMINATION, POOL).solvable(ids);
+        List<BoardResult> results = new BatchSolver(Solver.ELIMINATION, POOL).solve(ids);
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(ids.get(i), results.get(i).isSolved(), solvable[i]);
+        }
+    }
+
+    /**
+     * @return random ids of a mix of sizes, with both solvable and unsolvable boards
+     */
+    private static List<String> randomIds(int count, long seed) {
+        SplitMix64 random = new SplitMix64(seed);
+        int[] sizes = {3, 4, 5, 9, 16};
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Board board = new Board(sizes[random.nextInt(sizes.length)]);
+            if (random.nextInt(2) == 0) {
+                BoardGenerator.generate(board, random.nextLong(), 0, 0);
+            } else {
+                for (int row = 0; row < board.getSize(); row++) {
+                    board.setRow(row, random.nextLong() & board.getRowMask());
+                }
+            }
+            ids.add(board.toString());
+        }
+        return ids;
+    }
+
+    private static Board board(String id) {
+        Board board = new Board(Board.sizeOf(id));
+        assertTrue(board.load(id));
+        return board;
+    }
+}
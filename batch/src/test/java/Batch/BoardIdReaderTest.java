@@ -0,0 +1,81 @@
+package Batch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite board id reader tests
+ */
+public class BoardIdReaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void skipsBlankLinesAndKeepsGarbage() throws IOException {
+        assertEquals(Arrays.asList("5:abc", "not an id", "9"),
+                read("\n5:abc\n\n\r\nnot an id\n\n9\n\n", 1 << 20));
+    }
+
+    @Test
+    public void readsATrailingLineWithoutANewline() throws IOException {
+        assertEquals(Arrays.asList("first", "last"), read("first\nlast", 1 << 20));
+        assertEquals(Arrays.asList("x"), read("x", 1 << 20));
+    }
+
+    @Test
+    public void stripsCarriageReturns() throws IOException {
+        assertEquals(Arrays.asList("first", "second"), read("first\r\nsecond\r\n", 1 << 20));
+    }
+
+    @Test
+    public void emptyFilesHaveNoIds() throws IOException {
+        assertEquals(new ArrayList<String>(), read("", 1 << 20));
+        assertEquals(new ArrayList<String>(), read("\n\r\n\n", 1 << 20));
+    }
+
+    @Test
+    public void linesTooLongForAnyBoardReadAsEmpty() throws IOException {
+        char[] longLine = new char[64 * 64 + 1];
+        Arrays.fill(longLine, '1');
+        assertEquals(Arrays.asList("a", "", "b"),
+                read("a\n" + new String(longLine) + "\nb\n", 1 << 20));
+        assertEquals(Arrays.asList("a", ""), read("a\n" + new String(longLine), 1 << 20));
+    }
+
+    @Test
+    public void linesSpanWindows() throws IOException {
+        String text = "3:1f\n\nsecond line\r\n7:0000000001\nlast";
+        List<String> expected = Arrays.asList("3:1f", "second line", "7:0000000001", "last");
+        for (int window = 1; window <= text.length() + 1; window++) {
+            assertEquals(window + "", expected, read(text, window));
+        }
+    }
+
+    /**
+     * @return every id of a file holding the given text, read through windows of the given size
+     */
+    private List<String> read(String text, long windowBytes) throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.US_ASCII));
+        List<String> ids = new ArrayList<>();
+        try (BoardIdReader in = new BoardIdReader(file, windowBytes)) {
+            for (String id = in.next(); id != null; id = in.next()) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
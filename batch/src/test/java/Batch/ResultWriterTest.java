@@ -0,0 +1,74 @@
+package Batch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite result writer tests
+ */
+public class ResultWriterTest {
+    private static final List<BoardResult> RESULTS = Arrays.asList(
+            new BoardResult("3:1f", 3, new int[] {0, 4, 8}, 10),
+            new BoardResult("4:0", 4, new int[0], 10),
+            new BoardResult("4:1", 4, null, 10),
+            BoardResult.gaveUp("9:3", 9, 10),
+            BoardResult.unsupported("39:5", 39),
+            new BoardResult("junk", -1, null, 0));
+    private static final String LINES = "3:1f\tsolved\t3\t0,4,8\n"
+            + "4:0\tsolved\t0\t\n"
+            + "4:1\tunsolved\t-1\t\n"
+            + "9:3\tgave-up\t-1\t\n"
+            + "39:5\tunsupported\t-1\t\n"
+            + "junk\tinvalid\t-1\t\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writesALinePerResult() throws IOException {
+        assertEquals(LINES, write(RESULTS, 1 << 20));
+    }
+
+    @Test
+    public void linesSpanWindows() throws IOException {
+        for (int window = 1; window <= LINES.length() + 1; window++) {
+            assertEquals(window + "", LINES, write(RESULTS, window));
+        }
+    }
+
+    @Test
+    public void overwritesLongerFiles() throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), new byte[4096]);
+        try (ResultWriter out = new ResultWriter(file, 1 << 20)) {
+            out.write(RESULTS.get(0));
+        }
+        assertEquals("3:1f\tsolved\t3\t0,4,8\n",
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @return the text of a file the results were written to through windows of the given size
+     */
+    private String write(List<BoardResult> results, long windowBytes) throws IOException {
+        File file = folder.newFile();
+        try (ResultWriter out = new ResultWriter(file, windowBytes)) {
+            for (BoardResult result : results) {
+                out.write(result);
+            }
+        }
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.US_ASCII);
+    }
+}
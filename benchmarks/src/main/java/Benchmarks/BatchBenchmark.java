@@ -0,0 +1,79 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import Batch.BatchSolver;
+import Batch.BoardResult;
+import Internal.Board;
+import Internal.BoardGenerator;
+import Internal.Solver;
+import Internal.SplitMix64;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite batch solve throughput, in boards per second
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+    private static final int BOARDS = 4096;
+
+    @Param({"3", "5", "10", "15", "20", "25"})
+    public int size;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"LIGHT_CHASING", "OPTIMAL"})
+    public Solver solver;
+
+    private List<String> ids;
+    private ForkJoinPool pool;
+    private BatchSolver batchSolver;
+
+    @Setup
+    public void setUp() {
+        SplitMix64 seeds = new SplitMix64(size);
+        Board board = new Board(size);
+        ids = new ArrayList<String>(BOARDS);
+        for (int i = 0; i < BOARDS; i++) {
+            BoardGenerator.generate(board, seeds.nextLong(), 2, 2);
+            ids.add(board.toString());
+        }
+        pool = new ForkJoinPool(threads);
+        batchSolver = new BatchSolver(solver, pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public List<BoardResult> solve() {
+        return batchSolver.solve(ids);
+    }
+}
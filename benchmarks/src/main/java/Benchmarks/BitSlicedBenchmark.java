@@ -0,0 +1,95 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import Internal.BitSlicedSolver;
+import Internal.Board;
+import Internal.LightChaser;
+import Internal.SplitMix64;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite bit sliced solver benchmarks, per board of a batch of 64
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitSlicedBenchmark {
+    @Param({"2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16",
+            "17", "18", "19", "20", "21", "22", "23", "24", "25"})
+    public int size;
+
+    private Board[] boards;
+    private long[] presses;
+    private long[] panels;
+    private long[] slicedPresses;
+
+    @Setup
+    public void setUp() {
+        // random panels rather than presses, so singular sizes get unsolvable boards too
+        SplitMix64 random = new SplitMix64(size);
+        boards = new Board[BitSlicedSolver.BOARDS];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = new Board(size);
+            for (int row = 0; row < size; row++) {
+                boards[i].setRow(row, random.nextLong() & boards[i].getRowMask());
+            }
+        }
+        presses = new long[size];
+        panels = new long[size * size];
+        slicedPresses = new long[size * size];
+        BitSlicedSolver.forSize(size).slice(boards, 0, boards.length, panels);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BitSlicedSolver.BOARDS)
+    public long lightChasing() {
+        LightChaser chaser = LightChaser.forSize(size);
+        long solvable = 0;
+        for (int i = 0; i < boards.length; i++) {
+            if (chaser.solve(boards[i], presses)) {
+                solvable |= 1L << i;
+            }
+        }
+        return solvable;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BitSlicedSolver.BOARDS)
+    public long bitSliced() {
+        BitSlicedSolver solver = BitSlicedSolver.forSize(size);
+        solver.slice(boards, 0, boards.length, panels);
+        return solver.solve(panels, slicedPresses);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BitSlicedSolver.BOARDS)
+    public long bitSlicedSolvable() {
+        BitSlicedSolver solver = BitSlicedSolver.forSize(size);
+        solver.slice(boards, 0, boards.length, panels);
+        return solver.solvable(panels);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BitSlicedSolver.BOARDS)
+    public long bitSlicedPresliced() {
+        return BitSlicedSolver.forSize(size).solve(panels, slicedPresses);
+    }
+}
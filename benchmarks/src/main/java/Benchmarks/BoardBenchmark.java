@@ -0,0 +1,94 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import Internal.Board;
+import Internal.BoardGenerator;
+import Internal.HeuristicSolver;
+import Internal.SplitMix64;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite board operation benchmarks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    @Param({"2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16",
+            "17", "18", "19", "20", "21", "22", "23", "24", "25"})
+    public int size;
+
+    @Param({Boards.RANDOM, Boards.WORST_CASE})
+    public String kind;
+
+    private Board board;
+    private SplitMix64 seeds;
+    private HeuristicSolver heuristic;
+    private String id;
+    private int panel;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(size, kind);
+        heuristic = new HeuristicSolver(board);
+        id = board.toString();
+        seeds = new SplitMix64(size);
+    }
+
+    /**
+     * @return the next panel to work on, cycling through the whole board
+     */
+    private int nextPanel() {
+        panel = panel + 1 == size * size ? 0 : panel + 1;
+        return panel;
+    }
+
+    @Benchmark
+    public Board changePanels() {
+        board.press(nextPanel());
+        return board;
+    }
+
+    @Benchmark
+    public double analyze() {
+        return heuristic.analyze(nextPanel());
+    }
+
+    @Benchmark
+    public boolean isSolved() {
+        return board.isSolved();
+    }
+
+    @Benchmark
+    public String boardToString() {
+        return board.toString();
+    }
+
+    @Benchmark
+    public Board generateBoard() {
+        BoardGenerator.generate(board, seeds.nextLong(), 2, 2);
+        return board;
+    }
+
+    @Benchmark
+    public boolean generateBoardFromString() {
+        return board.load(id);
+    }
+}
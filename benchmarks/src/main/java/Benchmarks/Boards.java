@@ -0,0 +1,35 @@
+package Benchmarks;
+
+import Internal.Board;
+import Internal.SplitMix64;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite benchmark boards
+ */
+public class Boards {
+    public static final String RANDOM = "RANDOM";
+    public static final String WORST_CASE = "WORST_CASE";
+    private static final long SEED = 0x5eedL;
+
+    private Boards() {
+    }
+
+    /**
+     * Builds a benchmark board. Both kinds are built from presses, so they can always be solved.
+     * @param size the number of rows (and columns) of the board
+     * @param kind RANDOM for a board made by pressing a seeded random half of the panels, or
+     *             WORST_CASE for the board made by pressing every panel
+     * @return the board
+     */
+    public static Board create(int size, String kind) {
+        Board board = new Board(size);
+        SplitMix64 random = new SplitMix64(SEED + size);
+        boolean worstCase = WORST_CASE.equals(kind);
+        for (int row = 0; row < size; row++) {
+            board.pressRow(row, worstCase ? -1L : random.nextLong());
+        }
+        return board;
+    }
+}
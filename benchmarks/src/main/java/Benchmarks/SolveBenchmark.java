@@ -0,0 +1,112 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import Internal.Board;
+import Internal.HeuristicSolver;
+import Internal.LightChaser;
+import Internal.LinearSolver;
+import Internal.OptimalSolver;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite full solve benchmarks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolveBenchmark {
+    @Param({"2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16",
+            "17", "18", "19", "20", "21", "22", "23", "24", "25"})
+    public int size;
+
+    @Param({Boards.RANDOM, Boards.WORST_CASE})
+    public String kind;
+
+    private Board initial;
+    private Board board;
+    private HeuristicSolver heuristic;
+
+    /**
+     * Reports the number of presses in the last solution found, and whether the heuristic gave
+     * up, next to the timings.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Moves {
+        public long movesToSolve;
+        public long unsolved;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            movesToSolve = 0;
+            unsolved = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        initial = Boards.create(size, kind);
+        board = new Board(initial);
+        heuristic = new HeuristicSolver(board);
+    }
+
+    @Benchmark
+    public int[] lightChasing(Moves moves) {
+        int[] presses = LightChaser.forSize(size).solve(initial);
+        moves.movesToSolve = presses.length;
+        return presses;
+    }
+
+    @Benchmark
+    public int[] optimal(Moves moves) {
+        int[] presses = OptimalSolver.forSize(size).solve(initial);
+        moves.movesToSolve = presses.length;
+        return presses;
+    }
+
+    @Benchmark
+    public int[] elimination(Moves moves) {
+        int[] presses = LinearSolver.solve(initial);
+        moves.movesToSolve = presses.length;
+        return presses;
+    }
+
+    /**
+     * Plays the heuristic until the board is solved or it has made ten moves per panel.
+     */
+    @Benchmark
+    public Board heuristic(Moves moves) {
+        board.copyFrom(initial);
+        heuristic.reset();
+        int maxMoves = 10 * size * size;
+        int made = 0;
+        int lastMove = -1;
+        while (!board.isSolved() && made < maxMoves) {
+            lastMove = heuristic.nextMove(lastMove);
+            heuristic.press(lastMove);
+            made++;
+        }
+        moves.movesToSolve = made;
+        moves.unsolved = board.isSolved() ? 0 : 1;
+        return board;
+    }
+}
@@ -0,0 +1,182 @@
+package Internal;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite background solver
+ *
+ * Solves boards on a background thread and reports back on a callback executor, such as one
+ * posting to the UI thread, so computing a solution never blocks the caller.
+ */
+public class BackgroundSolver {
+    private static final int PROGRESS_INTERVAL = 64; // heuristic moves between progress reports
+    private static final int MAX_MOVES_PER_PANEL = 100; // the heuristic gives up after this many
+
+    /**
+     * Receives the results of a background solve, always on the callback executor and never
+     * after the solve was cancelled.
+     */
+    public interface Listener {
+        /**
+         * Called periodically while the heuristic is still searching.
+         * @param movesFound the number of moves found so far
+         */
+        void onProgress(int movesFound);
+
+        /**
+         * Called once the board is solved.
+         * @param moves the panels to press, in order
+         */
+        void onSolved(int[] moves);
+
+        /**
+         * Called if the board cannot be solved, or the heuristic gave up on it.
+         */
+        void onUnsolvable();
+    }
+
+    private final ExecutorService executor;
+    private final Executor callbackExecutor;
+
+    /**
+     * Constructs a new solver with its own background thread.
+     * @param callbackExecutor the executor to run the listener callbacks on
+     */
+    public BackgroundSolver(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "BackgroundSolver");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Solves a snapshot of the given board in the background. Cancelling the returned future
+     * interrupts the solve and suppresses any callbacks that have not run yet.
+     * @param board the board to solve, copied before this method returns
+     * @param solver the algorithm to solve with, see @Solver.forBoard(Board)
+     * @param listener the listener to report progress and the result to
+     * @return a future holding the moves, or null if the board could not be solved
+     */
+    public Future<int[]> solve(Board board, Solver solver, Listener listener) {
+        Solve solve = new Solve(new Board(board), solver.forBoard(board), listener);
+        solve.future = new FutureTask<int[]>(solve);
+        executor.execute(solve.future);
+        return solve.future;
+    }
+
+    /**
+     * Stops the background thread, cancelling any solve in progress.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A single solve, run on the background thread.
+     */
+    private class Solve implements Callable<int[]> {
+        private final Board board;
+        private final Solver solver;
+        private final Listener listener;
+        private FutureTask<int[]> future;
+
+        private Solve(Board board, Solver solver, Listener listener) {
+            this.board = board;
+            this.solver = solver;
+            this.listener = listener;
+        }
+
+        @Override
+        public int[] call() throws InterruptedException {
+            final int[] moves;
+            switch (solver) {
+                case ELIMINATION:
+                    moves = LinearSolver.solve(board);
+                    break;
+                case LIGHT_CHASING:
+                    moves = LightChaser.forSize(board.getSize()).solve(board);
+                    break;
+                case OPTIMAL:
+                    moves = OptimalSolver.forSize(board.getSize()).solve(board);
+                    break;
+                default:
+                    moves = solveHeuristic();
+                    break;
+            }
+            post(new Runnable() {
+                @Override
+                public void run() {
+                    if (moves == null) {
+                        listener.onUnsolvable();
+                    } else {
+                        listener.onSolved(moves);
+                    }
+                }
+            });
+            return moves;
+        }
+
+        /**
+         * Plays the heuristic on the board until it is solved, checking for cancellation
+         * between moves.
+         */
+        private int[] solveHeuristic() throws InterruptedException {
+            HeuristicSolver heuristic = new HeuristicSolver(board);
+            int maxMoves = MAX_MOVES_PER_PANEL * board.getSize() * board.getSize();
+            int[] moves = new int[16];
+            int count = 0;
+            while (!board.isSolved()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (count >= maxMoves) {
+                    return null;
+                }
+                int panel = heuristic.nextMove(count == 0 ? -1 : moves[count - 1]);
+                heuristic.press(panel);
+                if (count == moves.length) {
+                    moves = Arrays.copyOf(moves, count * 2);
+                }
+                moves[count++] = panel;
+                if (count % PROGRESS_INTERVAL == 0) {
+                    final int movesFound = count;
+                    post(new Runnable() {
+                        @Override
+                        public void run() {
+                            listener.onProgress(movesFound);
+                        }
+                    });
+                }
+            }
+            return Arrays.copyOf(moves, count);
+        }
+
+        /**
+         * Runs the callback on the callback executor, unless the solve is cancelled by then.
+         */
+        private void post(final Runnable callback) {
+            callbackExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (!future.isCancelled()) {
+                        callback.run();
+                    }
+                }
+            });
+        }
+    }
+}
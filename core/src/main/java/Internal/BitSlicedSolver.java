@@ -0,0 +1,222 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite bit sliced solver
+ *
+ * Light chases 64 boards of the same size at once. The boards are transposed into bit sliced
+ * form, one long per panel holding that panel of every board, so each step of the chase is a
+ * single XOR for all 64 boards. The bottom row residue to first row step of @LightChaser is
+ * linear, so it becomes an XOR of residue panels per first row panel instead of a table lookup.
+ * Like light chasing, it only solves boards on the @Topology.PLANE.
+ *
+ * This only partly reaches its goal of an order of magnitude over @LightChaser, which already
+ * chases a whole row per long. Counting the slicing, solving is about 1.4x faster per board at
+ * 5x5 and 1.3x at 10x10, but slower from 15x15 up, so the batch module only uses it to check
+ * solvability and solves boards with the scalar solvers.
+ */
+public class BitSlicedSolver {
+    public static final int BOARDS = 64;
+    // [log2 j] -> the bits swapped with the bits j higher up in each round of a transpose
+    private static final long[] TRANSPOSE_MASKS = {0x5555555555555555L, 0x3333333333333333L,
+            0x0f0f0f0f0f0f0f0fL, 0x00ff00ff00ff00ffL, 0x0000ffff0000ffffL, 0x00000000ffffffffL};
+
+    private static final BitSlicedSolver[] solvers = new BitSlicedSolver[65];
+
+    private final int size;
+    private final int width; // size rounded up to a power of 2
+    // bit col of firstRowMatrix[c] is set if a residue at col needs first row panel c pressed,
+    // and bit col of leftoverMatrix[c] if it leaves panel c of the residue uncancelled
+    private final long[] firstRowMatrix;
+    private final long[] leftoverMatrix;
+
+    /**
+     * Returns the bit sliced solver for the given board size, building it on first use.
+     * @param size the number of rows (and columns) of the board
+     * @return the shared BitSlicedSolver for that size
+     */
+    public static synchronized BitSlicedSolver forSize(int size) {
+        if (solvers[size] == null) {
+            solvers[size] = new BitSlicedSolver(size);
+        }
+        return solvers[size];
+    }
+
+    private BitSlicedSolver(int size) {
+        this.size = size;
+        this.width = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.firstRowMatrix = new long[size];
+        this.leftoverMatrix = new long[size];
+        LightChaser chaser = LightChaser.forSize(size);
+        for (int col = 0; col < size; col++) {
+            long firstRow = chaser.firstRowFor(col);
+            long leftover = chaser.leftoverFor(col);
+            for (int c = 0; c < size; c++) {
+                firstRowMatrix[c] |= (firstRow >>> c & 1L) << col;
+                leftoverMatrix[c] |= (leftover >>> c & 1L) << col;
+            }
+        }
+    }
+
+    /**
+     * Transposes up to 64 boards into bit sliced form.
+     * @param boards the boards to slice, null entries are sliced as all white boards
+     * @param from the index of the board that becomes bit 0
+     * @param count the number of boards to slice, at most 64
+     * @param panels receives the sliced boards, bit k of panels[panel] is set if the panel is
+     *               black on board from + k
+     */
+    public void slice(Board[] boards, int from, int count, long[] panels) {
+        long[] block = new long[width];
+        for (int row = 0; row < size; row++) {
+            // a 64 by 64 transpose of rows only width wide starts by packing them side by side,
+            // so only the last rounds of the transpose are left to do
+            for (int k = 0; k < width; k++) {
+                long packed = 0;
+                for (int b = k; b < count; b += width) {
+                    Board board = boards[from + b];
+                    if (board != null) {
+                        if (board.getSize() != size || board.getTopology() != Topology.PLANE) {
+                            throw new IllegalArgumentException(
+                                    "boards must be PLANEs of size " + size);
+                        }
+                        packed |= board.getRow(row) << (b - k);
+                    }
+                }
+                block[k] = packed;
+            }
+            for (int j = width >>> 1; j != 0; j >>>= 1) {
+                long mask = TRANSPOSE_MASKS[Integer.numberOfTrailingZeros(j)];
+                for (int k = 0; k < width; k = ((k | j) + 1) & ~j) {
+                    long swap = ((block[k] >>> j) ^ block[k | j]) & mask;
+                    block[k] ^= swap << j;
+                    block[k | j] ^= swap;
+                }
+            }
+            System.arraycopy(block, 0, panels, row * size, size);
+        }
+    }
+
+    /**
+     * Solves 64 sliced boards at once.
+     * @param panels the sliced boards, as filled by @slice(), left unchanged
+     * @param presses receives the sliced presses, bit k of presses[panel] is set if the panel is
+     *                pressed on board k. Only valid for boards that can be solved.
+     * @return the boards that can be solved, bit k is set if board k can be solved
+     */
+    public long solve(long[] panels, long[] presses) {
+        long[] residue = panels.clone();
+        chase(residue, presses);
+        int bottom = (size - 1) * size;
+
+        long[] work = panels.clone();
+        long unsolvable = 0;
+        for (int c = 0; c < size; c++) {
+            unsolvable |= combine(leftoverMatrix[c], residue, bottom);
+            long firstRow = combine(firstRowMatrix[c], residue, bottom);
+            presses[c] = firstRow;
+            toggle(work, 0, c, firstRow);
+        }
+        chase(work, presses);
+        return ~unsolvable;
+    }
+
+    /**
+     * Checks which of 64 sliced boards can be solved, which takes a single chase.
+     * @param panels the sliced boards, as filled by @slice(), left unchanged
+     * @return the boards that can be solved, bit k is set if board k can be solved
+     */
+    public long solvable(long[] panels) {
+        long[] residue = panels.clone();
+        chase(residue, null);
+        long unsolvable = 0;
+        for (int c = 0; c < size; c++) {
+            unsolvable |= combine(leftoverMatrix[c], residue, (size - 1) * size);
+        }
+        return ~unsolvable;
+    }
+
+    /**
+     * Lists the presses of one board.
+     * @param presses the sliced presses, as filled by @solve()
+     * @param board the index of the board among the 64
+     * @return the panels to press on that board in ascending order
+     */
+    public int[] toPanels(long[] presses, int board) {
+        int count = 0;
+        for (int panel = 0; panel < size * size; panel++) {
+            count += (int) (presses[panel] >>> board) & 1;
+        }
+        int[] result = new int[count];
+        int index = 0;
+        for (int panel = 0; panel < size * size; panel++) {
+            if ((presses[panel] >>> board & 1L) != 0) {
+                result[index++] = panel;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Presses below every black panel of each row but the last, for all 64 boards at once.
+     * @param work the sliced boards, left with only the bottom row residue
+     * @param presses receives the presses of rows 1 and below, or null if not needed
+     */
+    private void chase(long[] work, long[] presses) {
+        for (int row = 0; row < size - 1; row++) {
+            int above = row * size;
+            int next = above + size;
+            int below = row < size - 2 ? next + size : -1;
+            // the row above is not cleared, it is never read again
+            for (int col = 0; col < size; col++) {
+                long press = work[above + col];
+                if (presses != null) {
+                    presses[next + col] = press;
+                }
+                work[next + col] ^= press;
+                if (col > 0) {
+                    work[next + col - 1] ^= press;
+                }
+                if (col < size - 1) {
+                    work[next + col + 1] ^= press;
+                }
+                if (below != -1) {
+                    work[below + col] ^= press;
+                }
+            }
+        }
+    }
+
+    /**
+     * Presses a panel on the boards with a bit set in press.
+     */
+    private void toggle(long[] work, int row, int col, long press) {
+        int panel = row * size + col;
+        work[panel] ^= press;
+        if (row > 0) {
+            work[panel - size] ^= press;
+        }
+        if (row < size - 1) {
+            work[panel + size] ^= press;
+        }
+        if (col > 0) {
+            work[panel - 1] ^= press;
+        }
+        if (col < size - 1) {
+            work[panel + 1] ^= press;
+        }
+    }
+
+    /**
+     * @return the XOR of the bottom row panels set in bits, the bottom row starting at offset
+     */
+    private static long combine(long bits, long[] residue, int offset) {
+        long result = 0;
+        for (; bits != 0; bits &= bits - 1) {
+            result ^= residue[offset + Long.numberOfTrailingZeros(bits)];
+        }
+        return result;
+    }
+
+}
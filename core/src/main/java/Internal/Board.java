@@ -0,0 +1,342 @@
+package Internal;
+
+import java.util.Arrays;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite Board
+ */
+public class Board {
+    private static final char[] ID_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    private final int size;
+    private final long[] rows; // bit col of rows[row] is set if the panel is black
+    private final long rowMask;
+    private final Topology topology;
+    private final Neighborhood neighborhood;
+    private final int[] pressRows; // the rows and masks XORed by each press, 3 per panel
+    private final long[] pressMasks;
+
+    /**
+     * Constructs a new all white board. Each row of the board is packed into a single long
+     * so the board supports sizes of up to 64.
+     *
+     * @param size the number of rows (and columns) of the board
+     */
+    public Board(int size) {
+        this(size, Topology.PLANE);
+    }
+
+    /**
+     * Constructs a new all white board where pressing a panel toggles the panels of the given
+     * topology.
+     * @param size the number of rows (and columns) of the board
+     * @param topology which panels a press toggles
+     */
+    public Board(int size, Topology topology) {
+        if (size < 1 || size > 64) {
+            throw new IllegalArgumentException("size must be between 1 and 64");
+        }
+        this.size = size;
+        this.rows = new long[size];
+        this.rowMask = size == 64 ? -1L : (1L << size) - 1;
+        this.topology = topology;
+        this.neighborhood = Neighborhood.forSize(topology, size);
+        this.pressRows = neighborhood.pressRows;
+        this.pressMasks = neighborhood.pressMasks;
+    }
+
+    /**
+     * Constructs a copy of the given board, with the same topology.
+     * @param other the board to copy
+     */
+    public Board(Board other) {
+        this(other.size, other.topology);
+        copyFrom(other);
+    }
+
+    /**
+     * Overwrites this board with the state of another board of the same size.
+     * @param other the board to copy
+     */
+    public void copyFrom(Board other) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("board size must be " + size);
+        }
+        System.arraycopy(other.rows, 0, rows, 0, size);
+    }
+
+    /**
+     * @return the number of rows (and columns) of the board
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return which panels a press toggles
+     */
+    public Topology getTopology() {
+        return topology;
+    }
+
+    /**
+     * @return the panels toggled by every press on this board
+     */
+    public Neighborhood getNeighborhood() {
+        return neighborhood;
+    }
+
+    /**
+     * @return mask with the lowest size bits set, representing one full row
+     */
+    public long getRowMask() {
+        return rowMask;
+    }
+
+    /**
+     * @param row the desired row
+     * @return the packed row, where bit col is set if the panel is black
+     */
+    public long getRow(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Sets an entire packed row at once.
+     * @param row the desired row
+     * @param bits the packed row, bits above the board size are ignored
+     */
+    public void setRow(int row, long bits) {
+        rows[row] = bits & rowMask;
+    }
+
+    /**
+     * @param panelNumber the desired panel
+     * @return true if the panel is black, false if it is white
+     */
+    public boolean isBlack(int panelNumber) {
+        return (rows[panelNumber / size] >>> (panelNumber % size) & 1L) != 0;
+    }
+
+    /**
+     * Sets the color of a single panel.
+     * @param panelNumber the desired panel
+     * @param black true to make the panel black, false to make it white
+     */
+    public void setBlack(int panelNumber, boolean black) {
+        long bit = 1L << (panelNumber % size);
+        if (black) {
+            rows[panelNumber / size] |= bit;
+        } else {
+            rows[panelNumber / size] &= ~bit;
+        }
+    }
+
+    /**
+     * Toggles the given panel along with its neighbors in the topology of the board, on the
+     * plane the panels above, below, left and right of it.
+     * @param panelNumber the panel pressed
+     */
+    public void press(int panelNumber) {
+        int i = 3 * panelNumber;
+        rows[pressRows[i]] ^= pressMasks[i];
+        rows[pressRows[i + 1]] ^= pressMasks[i + 1];
+        rows[pressRows[i + 2]] ^= pressMasks[i + 2];
+    }
+
+    /**
+     * Presses several panels of one row at once, the same as pressing each of them in turn.
+     * @param row the row of the panels pressed
+     * @param panels the panels to press, bit col is set if the panel at row, col is pressed
+     */
+    public void pressRow(int row, long panels) {
+        panels &= rowMask;
+        if (topology == Topology.TORUS) {
+            for (long bits = panels; bits != 0; bits &= bits - 1) {
+                press(row * size + Long.numberOfTrailingZeros(bits));
+            }
+            return;
+        }
+        long spread = (panels ^ (panels << 1) ^ (panels >>> 1)) & rowMask;
+        long adjacent = topology == Topology.EIGHT_NEIGHBOR ? spread : panels;
+        rows[row] ^= spread;
+        if (row > 0) {
+            rows[row - 1] ^= adjacent;
+        }
+        if (row < size - 1) {
+            rows[row + 1] ^= adjacent;
+        }
+    }
+
+    /**
+     * @return true if every panel on the board is white
+     */
+    public boolean isSolved() {
+        long black = 0;
+        for (long row : rows) {
+            black |= row;
+        }
+        return black == 0;
+    }
+
+    /**
+     * @return the count of black panels
+     */
+    public int getBlackCount() {
+        int count = 0;
+        for (long row : rows) {
+            count += Long.bitCount(row);
+        }
+        return count;
+    }
+
+    /**
+     * Sets every panel on the board to the given color.
+     * @param black true to make the board black, false to make it white
+     */
+    public void fill(boolean black) {
+        long bits = black ? rowMask : 0;
+        for (int row = 0; row < size; row++) {
+            rows[row] = bits;
+        }
+    }
+
+    /**
+     * Loads the board from its id, either as returned by @toString() or the older id of one 0 or
+     * 1 per panel for white and black, respectively.
+     * @param id String representation of the board state
+     * @return true if the board was loaded, false if id is not a valid id for the size of the
+     *         board, in which case the board is left unchanged
+     */
+    public boolean load(String id) {
+        int cells = size * size;
+        if (id.length() == cells) {
+            if (!isLegacyId(id)) {
+                return false;
+            }
+            for (int i = 0; i < cells; i++) {
+                setBlack(i, id.charAt(i) == '1');
+            }
+            return true;
+        }
+        if (id.length() != 1 + (cells + 5) / 6 || decode(id.charAt(0)) != size - 1) {
+            return false;
+        }
+        long[] loaded = new long[size];
+        int pos = 1;
+        int bits = 0; // bits of the current character already read
+        int value = 0;
+        for (int row = 0; row < size; row++) {
+            int col = 0;
+            while (col < size) {
+                if (bits == 0) {
+                    value = decode(id.charAt(pos++));
+                    if (value < 0) {
+                        return false;
+                    }
+                }
+                int n = Math.min(6 - bits, size - col);
+                loaded[row] |= (long) ((value >>> bits) & ((1 << n) - 1)) << col;
+                col += n;
+                bits = (bits + n) % 6;
+            }
+        }
+        System.arraycopy(loaded, 0, rows, 0, size);
+        return true;
+    }
+
+    /**
+     * Reads the size of the board an id belongs to, without loading it.
+     * @param id String representation of a board state, as accepted by @load(String)
+     * @return the size of the board of the id, or -1 if it is not a valid id for any size
+     */
+    public static int sizeOf(String id) {
+        if (id.isEmpty()) {
+            return -1;
+        }
+        int size = decode(id.charAt(0)) + 1;
+        if (size > 0 && id.length() == 1 + (size * size + 5) / 6) {
+            return size;
+        }
+        size = (int) Math.sqrt(id.length());
+        return size * size == id.length() && size <= 64 && isLegacyId(id) ? size : -1;
+    }
+
+    /**
+     * @return true if every character of the id is a 0 or a 1, as in the older ids
+     */
+    private static boolean isLegacyId(String id) {
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c != '0' && c != '1') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stringifies the board into a compact id: one character for the size, followed by the
+     * panels in row major order, 6 per character, using the URL safe base64 alphabet.
+     * @return the String id for the current board, 1 + size * size / 6 characters long
+     */
+    @Override
+    public String toString() {
+        char[] id = new char[1 + (size * size + 5) / 6];
+        id[0] = ID_ALPHABET[size - 1];
+        int pos = 1;
+        int bits = 0; // bits of the current character already written
+        int value = 0;
+        for (int row = 0; row < size; row++) {
+            long panels = rows[row];
+            int col = 0;
+            while (col < size) {
+                int n = Math.min(6 - bits, size - col);
+                value |= (int) (panels >>> col & ((1 << n) - 1)) << bits;
+                col += n;
+                bits += n;
+                if (bits == 6) {
+                    id[pos++] = ID_ALPHABET[value];
+                    bits = 0;
+                    value = 0;
+                }
+            }
+        }
+        if (bits > 0) {
+            id[pos] = ID_ALPHABET[value];
+        }
+        return new String(id);
+    }
+
+    /**
+     * @return the value of a character of a board id, or -1 if it is not part of the alphabet
+     */
+    private static int decode(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        } else if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 26;
+        } else if (c >= '0' && c <= '9') {
+            return c - '0' + 52;
+        } else if (c == '-') {
+            return 62;
+        } else if (c == '_') {
+            return 63;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Board && topology == ((Board) o).topology
+                && Arrays.equals(rows, ((Board) o).rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(rows);
+    }
+}
@@ -0,0 +1,57 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite board generator
+ *
+ * Generates boards by pressing a random set of panels on an all white board, one random long per
+ * row, so every generated board can be solved, even on sizes where most boards cannot.
+ */
+public class BoardGenerator {
+    private BoardGenerator() {
+    }
+
+    /**
+     * Overwrites the board with a new solvable board. The same seed, size and minimums always
+     * give the same board.
+     * @param board the board to overwrite
+     * @param seed the seed of the board
+     * @param minBlack the minimum number of black panels on the new board
+     * @param minWhite the minimum number of white panels on the new board
+     */
+    public static void generate(Board board, long seed, int minBlack, int minWhite) {
+        SplitMix64 random = new SplitMix64(seed);
+        int size = board.getSize();
+        board.fill(false);
+        for (int row = 0; row < size; row++) {
+            board.pressRow(row, random.nextLong());
+        }
+
+        // Too few black or white panels only happens when the presses almost cancel out, so
+        // rather than re-rolling the board, press the panels that get closest to the minimums.
+        // Every press keeps the board solvable.
+        int deficit = deficit(board, minBlack, minWhite);
+        int cells = size * size;
+        int start = random.nextInt(cells);
+        for (int i = 0; i < cells && deficit > 0; i++) {
+            int panel = (start + i) % cells;
+            board.press(panel);
+            int pressed = deficit(board, minBlack, minWhite);
+            if (pressed < deficit) {
+                deficit = pressed;
+            } else {
+                board.press(panel);
+            }
+        }
+    }
+
+    /**
+     * @return how many black and white panels short of the minimums the board is
+     */
+    private static int deficit(Board board, int minBlack, int minWhite) {
+        int black = board.getBlackCount();
+        int white = board.getSize() * board.getSize() - black;
+        return Math.max(0, minBlack - black) + Math.max(0, minWhite - white);
+    }
+}
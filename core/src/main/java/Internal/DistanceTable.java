@@ -0,0 +1,125 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite distance table
+ *
+ * The fewest presses needed to solve every board of a small size and topology, found by a
+ * breadth first search from the solved board over all 2^(size * size) boards. Each board stores
+ * its distance modulo 3 in 2 bits, which is enough to tell a press that gets one step closer from
+ * the presses that do not, since a press changes the distance by at most one. 4x4 takes 16 KB.
+ */
+public class DistanceTable {
+    public static final int MAX_SIZE = 4;
+    private static final int UNREACHABLE = 3;
+
+    private static final DistanceTable[][] tables =
+            new DistanceTable[Topology.values().length][MAX_SIZE + 1];
+
+    private final Topology topology;
+    private final int size;
+    private final int[] pressMasks; // panels toggled by each press, as bits of a board index
+    private final long[] distances; // 2 bits per board index, 32 boards per long
+
+    /**
+     * Returns the distance table for the given size on the plane, searching every board on
+     * first use.
+     * @param size the number of rows (and columns) of the board, at most @MAX_SIZE
+     * @return the shared DistanceTable for that size
+     */
+    public static DistanceTable forSize(int size) {
+        return forSize(Topology.PLANE, size);
+    }
+
+    /**
+     * Returns the distance table for the given topology and size, searching every board on
+     * first use.
+     * @param topology which panels a press toggles
+     * @param size the number of rows (and columns) of the board, at most @MAX_SIZE
+     * @return the shared DistanceTable for that topology and size
+     */
+    public static synchronized DistanceTable forSize(Topology topology, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE);
+        }
+        DistanceTable[] sizes = tables[topology.ordinal()];
+        if (sizes[size] == null) {
+            sizes[size] = new DistanceTable(topology, size);
+        }
+        return sizes[size];
+    }
+
+    private DistanceTable(Topology topology, int size) {
+        this.topology = topology;
+        this.size = size;
+        int cells = size * size;
+        this.pressMasks = new int[cells];
+        Neighborhood neighborhood = Neighborhood.forSize(topology, size);
+        for (int i = 0; i < cells; i++) {
+            for (int j = 0; j < neighborhood.getToggledCount(i); j++) {
+                pressMasks[i] |= 1 << neighborhood.getToggled(i, j);
+            }
+        }
+
+        int boards = 1 << cells;
+        this.distances = new long[(boards + 31) >>> 5];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = -1L; // every board starts UNREACHABLE
+        }
+        // pressing a panel twice undoes it, so the distance from the solved board to a board is
+        // the distance from that board to the solved board
+        int[] queue = new int[boards];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = 0;
+        set(0, 0);
+        while (head < tail) {
+            int board = queue[head++];
+            int next = (get(board) + 1) % 3;
+            for (int mask : pressMasks) {
+                int neighbor = board ^ mask;
+                if (get(neighbor) == UNREACHABLE) {
+                    set(neighbor, next);
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds a press on an optimal solution of the board.
+     * @param board the board to solve, left unchanged
+     * @return a panel that brings the board one press closer to solved, or -1 if the board is
+     *         already solved or cannot be solved
+     */
+    public int nextPress(Board board) {
+        if (board.getSize() != size || board.getTopology() != topology) {
+            throw new IllegalArgumentException("board must be a " + topology + " of size " + size);
+        }
+        int index = 0;
+        for (int row = 0; row < size; row++) {
+            index |= (int) board.getRow(row) << (row * size);
+        }
+        int distance = get(index);
+        if (index == 0 || distance == UNREACHABLE) {
+            return -1;
+        }
+        int closer = (distance + 2) % 3;
+        for (int panel = 0; panel < pressMasks.length; panel++) {
+            if (get(index ^ pressMasks[panel]) == closer) {
+                return panel;
+            }
+        }
+        throw new IllegalStateException("no press gets closer to solved");
+    }
+
+    private int get(int index) {
+        return (int) (distances[index >>> 5] >>> ((index & 31) << 1)) & 3;
+    }
+
+    private void set(int index, int distance) {
+        int shift = (index & 31) << 1;
+        distances[index >>> 5] = distances[index >>> 5] & ~(3L << shift) | (long) distance << shift;
+    }
+}
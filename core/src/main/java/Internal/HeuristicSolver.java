@@ -0,0 +1,311 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite heuristic solver
+ */
+public class HeuristicSolver {
+    private static double conversionWeight = 1;
+    private static double edgeWeight = 0.05;
+    private static final int VISITED_BITS = 12; // boards remembered for cycle detection
+
+    private Board board;
+    private final int size;
+    private final Neighborhood neighborhood;
+    private final int[] edgeWeights;
+    private final double[] scores; // @analyze() of every panel, kept up to date on every press
+    private final IndexedMaxHeap bestScores;
+    private int blackCount;
+    private final SplitMix64 random;
+    private final long[] pressKeys; // Zobrist keys of every panel toggled by a press, XORed
+    private final TranspositionTable visited;
+    private long hash; // Zobrist hash of the board, 0 when solved
+
+    /**
+     * Constructs a new heuristic solver that plays on the given board. Presses must go through
+     * @press(int) to keep the scores up to date, and @reset() must be called after the board is
+     * changed in any other way.
+     * @param board the board to evaluate, shared with the caller
+     */
+    public HeuristicSolver(Board board) {
+        this(board, new SplitMix64(0));
+    }
+
+    /**
+     * Constructs a new heuristic solver that plays on the given board.
+     * @param board the board to evaluate, shared with the caller
+     * @param random the generator of the random moves made when no move scores well
+     */
+    public HeuristicSolver(Board board, SplitMix64 random) {
+        this.board = board;
+        this.random = random;
+        this.size = board.getSize();
+        this.neighborhood = board.getNeighborhood();
+        this.edgeWeights = new int[size * size];
+        this.scores = new double[size * size];
+        calculateEdgeWeights();
+        for (int i = 0; i < size * size; i++) {
+            scores[i] = analyze(i);
+        }
+        this.bestScores = new IndexedMaxHeap(scores);
+        this.blackCount = board.getBlackCount();
+        this.pressKeys = new long[size * size];
+        this.visited = new TranspositionTable(VISITED_BITS);
+        calculatePressKeys();
+        hashBoard();
+    }
+
+    /**
+     * Recalculates every score after the board was changed without @press(int).
+     */
+    public void reset() {
+        for (int i = 0; i < size * size; i++) {
+            scores[i] = analyze(i);
+        }
+        bestScores.rebuild();
+        blackCount = board.getBlackCount();
+        visited.clear();
+        hashBoard();
+    }
+
+    /**
+     * Moves the solver onto another board of the same size and topology, keeping its tables, so
+     * solving many boards only allocates one solver.
+     * @param board the board to evaluate from now on, shared with the caller
+     */
+    public void reset(Board board) {
+        if (board.getSize() != size || board.getTopology() != neighborhood.getTopology()) {
+            throw new IllegalArgumentException("board must be a " + neighborhood.getTopology()
+                    + " of size " + size);
+        }
+        this.board = board;
+        reset();
+    }
+
+    /**
+     * Presses the given panel on the board. Only the scores of panels that toggle one of the
+     * panels the press toggled can change, so only those are recalculated.
+     * @param panelNumber the panel to press
+     */
+    public void press(int panelNumber) {
+        blackCount -= countBlack(panelNumber);
+        board.press(panelNumber);
+        blackCount += countBlack(panelNumber);
+        hash ^= pressKeys[panelNumber];
+        visited.add(hash);
+
+        int[] affected = neighborhood.affected;
+        int end = neighborhood.affectedStarts[panelNumber + 1];
+        for (int i = neighborhood.affectedStarts[panelNumber]; i < end; i++) {
+            int panel = affected[i];
+            scores[panel] = analyze(panel);
+            bestScores.update(panel);
+        }
+    }
+
+    /**
+     * @return the Zobrist hash of the board, which is 0 only for the solved board
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * @return the count of black panels on the board
+     */
+    public int getBlackCount() {
+        return blackCount;
+    }
+
+    /**
+     * @return the count of black panels among the panels toggled by pressing the given panel
+     */
+    private int countBlack(int panelNumber) {
+        int[] rows = neighborhood.pressRows;
+        long[] masks = neighborhood.pressMasks;
+        int i = 3 * panelNumber;
+        return Long.bitCount(board.getRow(rows[i]) & masks[i])
+                + Long.bitCount(board.getRow(rows[i + 1]) & masks[i + 1])
+                + Long.bitCount(board.getRow(rows[i + 2]) & masks[i + 2]);
+    }
+
+    /**
+     * Runs through one iteration of the solving algorithm, which picks the best scoring panel
+     * and cuts off cycles by never returning to a board it already visited
+     * @param lastMove the panel pressed last, which is never chosen again, or -1 if none
+     * @return the panel to press for this iteration
+     */
+    public int nextMove(int lastMove) { // attempting heuristic evaluation
+        int index = bestScores.best(lastMove);
+
+        // if the best panel leads back to a visited board, the heuristic is in a cycle, so
+        // the best panel leading to a new board is chosen instead
+        if (index != -1 && visited.contains(hash ^ pressKeys[index])) {
+            index = bestUnvisited();
+        }
+
+        if (index == -1) { // if no suitable index is found, chooses a random tile
+            return random.nextInt(size * size);
+        } else {           // otherwise, switches the minimax-determined tile
+            return index;
+        }
+    }
+
+    /**
+     * @return the best scoring panel whose press leads to a board not visited yet, or -1 if
+     *         every press leads to a visited board
+     */
+    private int bestUnvisited() {
+        int best = -1;
+        for (int i = 0; i < size * size; i++) {
+            boolean better = best == -1 || scores[i] > scores[best];
+            if (better && !visited.contains(hash ^ pressKeys[i])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gives every panel a random Zobrist key, so pressing a panel changes the hash of the board
+     * by the XOR of the keys of the panels it toggles. The keys only depend on the size.
+     */
+    private void calculatePressKeys() {
+        SplitMix64 keys = new SplitMix64(size);
+        long[] panelKeys = new long[size * size];
+        for (int i = 0; i < panelKeys.length; i++) {
+            panelKeys[i] = keys.nextLong();
+        }
+        int[] starts = neighborhood.toggledStarts;
+        for (int i = 0; i < pressKeys.length; i++) {
+            long key = 0;
+            for (int j = starts[i]; j < starts[i + 1]; j++) {
+                key ^= panelKeys[neighborhood.toggled[j]];
+            }
+            pressKeys[i] = key;
+        }
+    }
+
+    /**
+     * Hashes the whole board from scratch and records it as visited.
+     */
+    private void hashBoard() {
+        SplitMix64 keys = new SplitMix64(size);
+        hash = 0;
+        for (int i = 0; i < size * size; i++) {
+            long key = keys.nextLong();
+            if (board.isBlack(i)) {
+                hash ^= key;
+            }
+        }
+        visited.add(hash);
+    }
+
+    private void calculateEdgeWeights() {
+        int maxWeight = (size % 2 == 1) ? size: size - 1;
+        int currentWeight = maxWeight;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                edgeWeights[row * size + col] = currentWeight;
+                if (col != size - 1) {
+                    if (size % 2 == 1) { // odd
+                        currentWeight = col < size / 2 ? currentWeight - 1 : currentWeight + 1;
+                    } else { // even
+                        if (col < size / 2 - 1) {
+                            currentWeight--;
+                        } else if (col > size / 2 - 1) {
+                            currentWeight++;
+                        }
+                    }
+                }
+            }
+            if (size % 2 == 1) { // odd
+                currentWeight = row < size / 2 ? currentWeight - 1: currentWeight + 1;
+            } else { // even
+                if (row < size / 2 - 1) {
+                    currentWeight--;
+                } else if (row > size / 2 - 1) {
+                    currentWeight++;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param panelNumber the desired panel
+     * @return the score of the panel as of the last press, the same as @analyze(int)
+     */
+    public double getScore(int panelNumber) {
+        return scores[panelNumber];
+    }
+
+    /**
+     * Calculates the net gain of selecting the given panel. Runs for every rescored panel on
+     * every press, so it only reads the packed board and allocates nothing.
+     * @param panelNumber the desired panel
+     * @return (#black panels - #white panels), net gain
+     */
+    public double analyze(int panelNumber) {
+        int conversionScore = 0;
+        int edgeScore = 0;
+        int[] toggled = neighborhood.toggled;
+        int end = neighborhood.toggledStarts[panelNumber + 1];
+        for (int i = neighborhood.toggledStarts[panelNumber]; i < end; i++) {
+            conversionScore += isBlack(toggled[i]);
+            edgeScore += getPanelEdgeScore(toggled[i]);
+        }
+        return (conversionWeight * conversionScore) + (edgeWeight * edgeScore);
+    }
+
+    /**
+     * Heuristic 1: conversion score
+     * @param panelNumber the desired panel
+     * @return the weighted count of black panels minus white panels that pressing the panel
+     * would toggle
+     */
+    public double getConversionScore(int panelNumber) {
+        int conversionScore = 0;
+        int[] toggled = neighborhood.toggled;
+        int end = neighborhood.toggledStarts[panelNumber + 1];
+        for (int i = neighborhood.toggledStarts[panelNumber]; i < end; i++) {
+            conversionScore += isBlack(toggled[i]);
+        }
+        return conversionWeight * conversionScore;
+    }
+
+    /**
+     * Heuristic 2: edge score
+     * @param panelNumber the desired panel
+     * @return the weighted sum of the edge scores of the panels that pressing the panel would
+     * toggle
+     */
+    public double getEdgeScore(int panelNumber) {
+        int edgeScore = 0;
+        int[] toggled = neighborhood.toggled;
+        int end = neighborhood.toggledStarts[panelNumber + 1];
+        for (int i = neighborhood.toggledStarts[panelNumber]; i < end; i++) {
+            edgeScore += getPanelEdgeScore(toggled[i]);
+        }
+        return edgeWeight * edgeScore;
+    }
+
+    /**
+     * Used to describe the net gain of a tile
+     * @param panelNumber
+     * @return 1 for a black panel, -1 for a white panel
+     */
+    private int isBlack(int panelNumber) {
+        return board.isBlack(panelNumber) ? 1 : -1;
+    }
+
+    /**
+     * @param panelNumber the desired panel
+     * @return the edge weight of the given panelNumber, which is positive if the tile is white
+     * (creates edge-black panels), and negative if the tile is black (does not create edge-black
+     * panels)
+     */
+    private int getPanelEdgeScore(int panelNumber) {
+        return board.isBlack(panelNumber) ? -edgeWeights[panelNumber] : edgeWeights[panelNumber];
+    }
+}
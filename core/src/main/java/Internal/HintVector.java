@@ -0,0 +1,139 @@
+package Internal;
+
+import java.nio.LongBuffer;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite hint vector
+ *
+ * Keeps a full solution x = P * b of a board up to date as it is played, where P is the
+ * @PressMatrix of its size and topology and b its black panels. Pressing panel i changes b by
+ * A * e_i, so x only changes by P * A * e_i, which is precomputed for every panel. A press, or
+ * an undo, then costs one XOR of N^2 / 64 words instead of solving the board again.
+ *
+ * P * b never presses a free panel of the elimination, and P * A * e_i is just e_i for the other
+ * panels, so pressing a hinted panel always leaves one press less to make.
+ */
+public class HintVector {
+    private static final long[][][] deltas = new long[Topology.values().length][65][];
+
+    private final Board board;
+    private final PressMatrix matrix;
+    private final long[] pressDeltas; // P * A * e_i of every panel i, words longs each
+    private final int words;
+    private final long[] presses; // x, bit panel % 64 of presses[panel / 64]
+    private boolean solvable;
+    private int next; // lowest panel of x, or -1
+
+    /**
+     * Solves the given board once, then keeps the solution up to date through @press(int).
+     * @param board the board to hint, only read
+     */
+    public HintVector(Board board) {
+        this.board = board;
+        this.matrix = PressMatrix.forSize(board.getTopology(), board.getSize());
+        this.pressDeltas = deltasFor(matrix, board.getNeighborhood());
+        this.words = PressMatrix.wordsFor(board.getSize());
+        this.presses = new long[words];
+        reset();
+    }
+
+    /**
+     * Returns P * A * e_i of every panel i for the given press matrix, computing them on first
+     * use. Column t of P is gathered from its rows first, then P * A * e_i is the XOR of the
+     * columns of the panels i toggles.
+     */
+    private static synchronized long[] deltasFor(PressMatrix matrix, Neighborhood neighborhood) {
+        long[][] sizes = deltas[matrix.getTopology().ordinal()];
+        int size = matrix.getSize();
+        if (sizes[size] == null) {
+            int cells = size * size;
+            int words = PressMatrix.wordsFor(size);
+            LongBuffer data = matrix.getData();
+            long[] columns = new long[cells * words];
+            for (int row = 0; row < cells; row++) {
+                for (int w = 0; w < words; w++) {
+                    for (long bits = data.get(row * words + w); bits != 0; bits &= bits - 1) {
+                        int col = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        columns[col * words + (row >>> 6)] |= 1L << row;
+                    }
+                }
+            }
+            long[] result = new long[cells * words];
+            for (int panel = 0; panel < cells; panel++) {
+                for (int i = 0; i < neighborhood.getToggledCount(panel); i++) {
+                    int toggled = neighborhood.getToggled(panel, i);
+                    for (int w = 0; w < words; w++) {
+                        result[panel * words + w] ^= columns[toggled * words + w];
+                    }
+                }
+            }
+            sizes[size] = result;
+        }
+        return sizes[size];
+    }
+
+    /**
+     * Solves the board again, after it was changed other than by pressing a panel.
+     */
+    public void reset() {
+        solvable = matrix.solve(board, presses);
+        findNext();
+    }
+
+    /**
+     * Updates the solution for a press of the given panel, made on the board by the caller.
+     * Undoing a press is pressing it again.
+     * @param panel the panel pressed
+     */
+    public void press(int panel) {
+        int start = panel * words;
+        for (int w = 0; w < words; w++) {
+            presses[w] ^= pressDeltas[start + w];
+        }
+        findNext();
+    }
+
+    private void findNext() {
+        next = -1;
+        if (solvable) {
+            for (int w = 0; w < words; w++) {
+                if (presses[w] != 0) {
+                    next = (w << 6) + Long.numberOfTrailingZeros(presses[w]);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the next panel of the solution to press, or -1 if the board is solved or cannot be
+     *         solved
+     */
+    public int nextPress() {
+        return next;
+    }
+
+    /**
+     * @param panel the desired panel
+     * @return true if the solution presses the given panel
+     */
+    public boolean isPressed(int panel) {
+        return solvable && (presses[panel >>> 6] >>> panel & 1L) != 0;
+    }
+
+    /**
+     * @return the number of presses left in the solution, or -1 if the board cannot be solved
+     */
+    public int getPressCount() {
+        if (!solvable) {
+            return -1;
+        }
+        int count = 0;
+        for (long bits : presses) {
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+}
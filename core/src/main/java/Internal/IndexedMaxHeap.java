@@ -0,0 +1,110 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite indexed max heap
+ *
+ * Binary max heap over the panel numbers 0 to n - 1, ordered by an externally owned score
+ * array. Panels keep their position in the heap so a single changed score is restored in
+ * O(log n). Equal scores are ordered by the lower panel number first.
+ */
+public class IndexedMaxHeap {
+    private final double[] scores;
+    private final int[] heap;      // heap position -> panel
+    private final int[] positions; // panel -> heap position
+
+    /**
+     * Constructs a heap over every index of the given score array.
+     * @param scores the scores to order by, read whenever the heap is rebuilt or updated
+     */
+    public IndexedMaxHeap(double[] scores) {
+        this.scores = scores;
+        this.heap = new int[scores.length];
+        this.positions = new int[scores.length];
+        rebuild();
+    }
+
+    /**
+     * Reorders the whole heap after any number of scores changed.
+     */
+    public void rebuild() {
+        for (int i = 0; i < heap.length; i++) {
+            heap[i] = i;
+            positions[i] = i;
+        }
+        for (int i = heap.length / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Restores the heap after the score of a single panel changed.
+     * @param panel the panel whose score changed
+     */
+    public void update(int panel) {
+        int position = positions[panel];
+        siftUp(position);
+        siftDown(positions[panel]);
+    }
+
+    /**
+     * @param excluded a panel that may not be returned, or -1 if none
+     * @return the panel with the highest score other than excluded, or -1 if there is none
+     */
+    public int best(int excluded) {
+        if (heap.length == 0) {
+            return -1;
+        }
+        if (heap[0] != excluded) {
+            return heap[0];
+        }
+        // the runner up is always one of the children of the root
+        if (heap.length == 1) {
+            return -1;
+        }
+        if (heap.length == 2 || higher(heap[1], heap[2])) {
+            return heap[1];
+        }
+        return heap[2];
+    }
+
+    private boolean higher(int a, int b) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    private void siftUp(int position) {
+        int panel = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!higher(panel, heap[parent])) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(panel, position);
+    }
+
+    private void siftDown(int position) {
+        int panel = heap[position];
+        int half = heap.length >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < heap.length && higher(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!higher(heap[child], panel)) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(panel, position);
+    }
+
+    private void move(int panel, int position) {
+        heap[position] = panel;
+        positions[panel] = position;
+    }
+}
@@ -0,0 +1,227 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite light chasing solver
+ *
+ * Chases the black panels down the board by pressing, for every row, the panels below the
+ * black panels of the row above. Only the bottom row can be left black afterwards, and that
+ * residue depends linearly on which panels of the first row were pressed. The first row presses
+ * that cancel each residue are precomputed once per board size, so a solve is two chases and a
+ * table lookup: O(N) row operations and no search. Chasing relies on a press toggling only the
+ * panel below it in the next row, so it only solves boards on the @Topology.PLANE.
+ */
+public class LightChaser {
+    private static final int CHUNK_BITS = 8;
+    private static final LightChaser[] chasers = new LightChaser[65];
+
+    private final int size;
+    private final long rowMask;
+    // [chunk][residue bits of that chunk] -> first row presses, and the part of the residue
+    // those presses cannot cancel (non-zero only for boards that cannot be solved)
+    private final long[][] firstRowTable;
+    private final long[][] leftoverTable;
+    // press patterns that leave every board unchanged, a basis of the kernel of the press matrix
+    private final long[][] quietPatterns;
+
+    /**
+     * Returns the light chaser for the given board size, building its lookup table on first use.
+     * @param size the number of rows (and columns) of the board
+     * @return the shared LightChaser for that size
+     */
+    public static synchronized LightChaser forSize(int size) {
+        if (chasers[size] == null) {
+            chasers[size] = new LightChaser(size);
+        }
+        return chasers[size];
+    }
+
+    private LightChaser(int size) {
+        this.size = size;
+        this.rowMask = new Board(size).getRowMask();
+
+        // Reduce the residue of every single first row press against the previous ones, keeping
+        // track of which presses make up each reduced residue.
+        long[] basisResidues = new long[size];
+        long[] basisPresses = new long[size];
+        int rank = 0;
+        long[] scratch = new long[size];
+        long[] quietFirstRows = new long[size];
+        int quiet = 0;
+        for (int col = 0; col < size; col++) {
+            long residue = chase(null, 1L << col, scratch);
+            long presses = 1L << col;
+            for (int i = 0; i < rank; i++) {
+                if ((residue & Long.lowestOneBit(basisResidues[i])) != 0) {
+                    residue ^= basisResidues[i];
+                    presses ^= basisPresses[i];
+                }
+            }
+            if (residue != 0) {
+                basisResidues[rank] = residue;
+                basisPresses[rank] = presses;
+                rank++;
+            } else {
+                quietFirstRows[quiet++] = presses; // these first row presses clear the board
+            }
+        }
+        quietPatterns = new long[quiet][size];
+        for (int i = 0; i < quiet; i++) {
+            chase(null, quietFirstRows[i], quietPatterns[i]);
+        }
+
+        // The mapping is linear, so every residue is handled by combining the single bit entries.
+        long[] bitPresses = new long[size];
+        long[] bitLeftovers = new long[size];
+        for (int bit = 0; bit < size; bit++) {
+            long residue = 1L << bit;
+            long presses = 0;
+            for (int i = 0; i < rank; i++) {
+                if ((residue & Long.lowestOneBit(basisResidues[i])) != 0) {
+                    residue ^= basisResidues[i];
+                    presses ^= basisPresses[i];
+                }
+            }
+            bitPresses[bit] = presses;
+            bitLeftovers[bit] = residue;
+        }
+
+        int chunks = (size + CHUNK_BITS - 1) / CHUNK_BITS;
+        firstRowTable = new long[chunks][1 << CHUNK_BITS];
+        leftoverTable = new long[chunks][1 << CHUNK_BITS];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            long[] presses = firstRowTable[chunk];
+            long[] leftovers = leftoverTable[chunk];
+            for (int value = 1; value < 1 << CHUNK_BITS; value++) {
+                int low = Integer.numberOfTrailingZeros(value);
+                int bit = chunk * CHUNK_BITS + low;
+                int rest = value & (value - 1);
+                if (bit < size) {
+                    presses[value] = presses[rest] ^ bitPresses[bit];
+                    leftovers[value] = leftovers[rest] ^ bitLeftovers[bit];
+                } else {
+                    presses[value] = presses[rest];
+                    leftovers[value] = leftovers[rest];
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of rows (and columns) of the boards this chaser solves
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return a basis of the press patterns that leave any board unchanged, each as packed rows.
+     * Every solution of a board is one solution XORed with a combination of these patterns.
+     */
+    public long[][] getQuietPatterns() {
+        return quietPatterns;
+    }
+
+    /**
+     * Solves the given board.
+     * @param board the board to solve, left unchanged
+     * @return the panels to press in ascending order, or null if the board cannot be solved
+     */
+    public int[] solve(Board board) {
+        long[] presses = new long[size];
+        if (!solve(board, presses)) {
+            return null;
+        }
+        return toPanels(presses);
+    }
+
+    /**
+     * Lists the panels set in a press pattern.
+     * @param presses the panels to press as packed rows, one row per row of the board
+     * @return the panels to press in ascending order
+     */
+    public static int[] toPanels(long[] presses) {
+        int size = presses.length;
+        int count = 0;
+        for (long row : presses) {
+            count += Long.bitCount(row);
+        }
+        int[] result = new int[count];
+        int index = 0;
+        for (int row = 0; row < size; row++) {
+            for (long bits = presses[row]; bits != 0; bits &= bits - 1) {
+                result[index++] = row * size + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Solves the given board, writing the presses as packed rows.
+     * @param board the board to solve, left unchanged
+     * @param presses receives the panels to press, bit col of presses[row] is set if the panel
+     *                at row, col needs to be pressed
+     * @return true if the board was solved, false if it cannot be solved
+     */
+    public boolean solve(Board board, long[] presses) {
+        if (board.getSize() != size || board.getTopology() != Topology.PLANE) {
+            throw new IllegalArgumentException("board must be a PLANE of size " + size);
+        }
+        long residue = chase(board, 0, presses);
+        long firstRow = 0;
+        long leftover = 0;
+        for (int chunk = 0; residue != 0; chunk++) {
+            int value = (int) (residue & ((1 << CHUNK_BITS) - 1));
+            firstRow ^= firstRowTable[chunk][value];
+            leftover ^= leftoverTable[chunk][value];
+            residue >>>= CHUNK_BITS;
+        }
+        if (leftover != 0) {
+            return false;
+        }
+        chase(board, firstRow, presses);
+        return true;
+    }
+
+    /**
+     * @param col a panel of the bottom row
+     * @return the first row presses that cancel a residue of only that panel
+     */
+    long firstRowFor(int col) {
+        return firstRowTable[col / CHUNK_BITS][1 << (col % CHUNK_BITS)];
+    }
+
+    /**
+     * @param col a panel of the bottom row
+     * @return the part of a residue of only that panel that no first row presses can cancel
+     */
+    long leftoverFor(int col) {
+        return leftoverTable[col / CHUNK_BITS][1 << (col % CHUNK_BITS)];
+    }
+
+    /**
+     * Presses the given first row and chases the black panels down to the bottom row.
+     * @param board the board to chase, or null for an all white board
+     * @param firstRow the panels of the first row to press
+     * @param presses receives the panels pressed in each row
+     * @return the black panels left in the bottom row
+     */
+    private long chase(Board board, long firstRow, long[] presses) {
+        long current = board == null ? 0 : board.getRow(0);
+        long next = board == null || size < 2 ? 0 : board.getRow(1);
+        long press = firstRow;
+        for (int row = 0; ; row++) {
+            presses[row] = press;
+            current ^= (press ^ (press << 1) ^ (press >>> 1)) & rowMask;
+            next ^= press;
+            if (row == size - 1) {
+                return current;
+            }
+            // pressing below every black panel clears this row, the row above is already clear
+            press = current;
+            current = next;
+            next = board == null || row + 2 >= size ? 0 : board.getRow(row + 2);
+        }
+    }
+}
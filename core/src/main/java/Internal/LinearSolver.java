@@ -0,0 +1,27 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite exact solver
+ *
+ * Models a board as the linear system A * x = b over GF(2), where b is the set of black panels,
+ * x is the set of panels to press and column j of A is the set of panels toggled by pressing j.
+ * The system is reduced once per size and topology with Gauss-Jordan elimination on rows packed
+ * into longs, see @PressMatrix, after which every board is solved by applying the recorded row
+ * operations.
+ */
+public class LinearSolver {
+
+    private LinearSolver() {
+    }
+
+    /**
+     * Solves the given board in a single pass over the press matrix of its size and topology.
+     * @param board the board to solve, left unchanged
+     * @return the panels to press in ascending order, or null if the board cannot be solved
+     */
+    public static int[] solve(Board board) {
+        return PressMatrix.forSize(board.getTopology(), board.getSize()).solve(board);
+    }
+}
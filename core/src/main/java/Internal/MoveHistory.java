@@ -0,0 +1,111 @@
+package Internal;
+
+import java.util.Arrays;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite move history
+ *
+ * The panels pressed in a game, in a growable int array. Moves past the current position are kept
+ * for redo until a new move is recorded. Since pressing a panel twice undoes it and presses can be
+ * made in any order, the board at any position is the current board with the presses in between
+ * toggled once each, so jumping anywhere never replays more than those presses.
+ */
+public class MoveHistory {
+    private int[] moves;
+    private int position; // moves made, moves before this are undoable
+    private int end;      // moves recorded, moves from position to end are redoable
+
+    /**
+     * Constructs an empty history.
+     */
+    public MoveHistory() {
+        this.moves = new int[16];
+    }
+
+    /**
+     * Records a move at the current position, dropping any moves that could be redone.
+     * @param panel the panel pressed
+     */
+    public void record(int panel) {
+        if (position == moves.length) {
+            moves = Arrays.copyOf(moves, position * 2);
+        }
+        moves[position++] = panel;
+        end = position;
+    }
+
+    /**
+     * Steps back one move. The caller presses the returned panel again to undo it.
+     * @return the panel of the move undone, or -1 if there is no move to undo
+     */
+    public int undo() {
+        return position == 0 ? -1 : moves[--position];
+    }
+
+    /**
+     * Steps forward one move. The caller presses the returned panel to redo it.
+     * @return the panel of the move redone, or -1 if there is no move to redo
+     */
+    public int redo() {
+        return position == end ? -1 : moves[position++];
+    }
+
+    /**
+     * @return the panel of the last move made, or -1 if there is none
+     */
+    public int last() {
+        return position == 0 ? -1 : moves[position - 1];
+    }
+
+    /**
+     * @return the number of moves made, the position in the history
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the number of moves recorded, including the ones that could be redone
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Moves to any recorded position, changing the board from the board at the current position
+     * to the board at the new position.
+     * @param newPosition the number of moves made at the new position, from 0 to @getEnd()
+     * @param board the board at the current position
+     */
+    public void jumpTo(int newPosition, Board board) {
+        if (newPosition < 0 || newPosition > end) {
+            throw new IndexOutOfBoundsException("position " + newPosition + " of " + end);
+        }
+        int size = board.getSize();
+        long[] presses = new long[size];
+        for (int i = Math.min(position, newPosition); i < Math.max(position, newPosition); i++) {
+            presses[moves[i] / size] ^= 1L << (moves[i] % size);
+        }
+        for (int row = 0; row < size; row++) {
+            board.pressRow(row, presses[row]);
+        }
+        position = newPosition;
+    }
+
+    /**
+     * Forgets every move.
+     */
+    public void clear() {
+        position = 0;
+        end = 0;
+    }
+
+    /**
+     * @return the panels of the moves made, in order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(moves, position);
+    }
+}
@@ -0,0 +1,190 @@
+package Internal;
+
+import java.util.Arrays;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite neighborhood tables
+ *
+ * The panels toggled by every press of one topology and size, computed once so pressing and
+ * scoring are plain loops over a table instead of boundary checks. Each press is also kept as 3
+ * row masks, so @Board.press(int) is 3 XORs on any topology.
+ */
+public class Neighborhood {
+    private static final Neighborhood[][] neighborhoods =
+            new Neighborhood[Topology.values().length][65];
+
+    private final Topology topology;
+    private final int size;
+    // the panels toggled by press i are toggled[toggledStarts[i]] to toggled[toggledStarts[i + 1]]
+    final int[] toggledStarts;
+    final int[] toggled;
+    // the panels whose toggled panels overlap those of press i, in the same layout
+    final int[] affectedStarts;
+    final int[] affected;
+    // press i XORs pressMasks[3 * i + k] into row pressRows[3 * i + k], for k = 0, 1, 2
+    final int[] pressRows;
+    final long[] pressMasks;
+
+    /**
+     * Returns the neighborhood of the given topology and size, computing it on first use.
+     * @param topology which panels a press toggles
+     * @param size the number of rows (and columns) of the board
+     * @return the shared Neighborhood for that topology and size
+     */
+    public static synchronized Neighborhood forSize(Topology topology, int size) {
+        Neighborhood[] sizes = neighborhoods[topology.ordinal()];
+        if (sizes[size] == null) {
+            sizes[size] = new Neighborhood(topology, size);
+        }
+        return sizes[size];
+    }
+
+    private Neighborhood(Topology topology, int size) {
+        this.topology = topology;
+        this.size = size;
+        int cells = size * size;
+
+        boolean[] marked = new boolean[cells];
+        int[] found = new int[cells];
+        int[][] toggles = new int[cells][];
+        for (int panel = 0; panel < cells; panel++) {
+            int row = panel / size;
+            int col = panel % size;
+            int count = 0;
+            for (int r = row - 1; r <= row + 1; r++) {
+                for (int c = col - 1; c <= col + 1; c++) {
+                    if (topology != Topology.EIGHT_NEIGHBOR && r != row && c != col) {
+                        continue;
+                    }
+                    int toggledPanel;
+                    if (topology == Topology.TORUS) {
+                        toggledPanel = (r + size) % size * size + (c + size) % size;
+                    } else if (r >= 0 && r < size && c >= 0 && c < size) {
+                        toggledPanel = r * size + c;
+                    } else {
+                        continue;
+                    }
+                    count = mark(toggledPanel, marked, found, count);
+                }
+            }
+            toggles[panel] = collect(marked, found, count);
+        }
+        this.toggledStarts = new int[cells + 1];
+        this.toggled = flatten(toggles, toggledStarts);
+
+        int[][] overlaps = new int[cells][];
+        for (int panel = 0; panel < cells; panel++) {
+            int count = 0;
+            // every press toggling a panel toggled by this press overlaps it, and toggles are
+            // symmetric on every topology, so those are the panels toggled by that panel
+            for (int neighbor : toggles[panel]) {
+                for (int overlap : toggles[neighbor]) {
+                    count = mark(overlap, marked, found, count);
+                }
+            }
+            overlaps[panel] = collect(marked, found, count);
+        }
+        this.affectedStarts = new int[cells + 1];
+        this.affected = flatten(overlaps, affectedStarts);
+
+        this.pressRows = new int[3 * cells];
+        this.pressMasks = new long[3 * cells];
+        for (int panel = 0; panel < cells; panel++) {
+            int used = 0;
+            for (int i = toggledStarts[panel]; i < toggledStarts[panel + 1]; i++) {
+                int row = toggled[i] / size;
+                int k = 3 * panel;
+                while (k < 3 * panel + used && pressRows[k] != row) {
+                    k++;
+                }
+                if (k == 3 * panel + used) {
+                    pressRows[k] = row;
+                    used++;
+                }
+                pressMasks[k] |= 1L << (toggled[i] % size);
+            }
+            for (int k = 3 * panel + used; k < 3 * panel + 3; k++) {
+                pressRows[k] = panel / size; // no panels, XORing the row with 0 changes nothing
+            }
+        }
+    }
+
+    /**
+     * Adds a panel to the panels found so far, unless it was already found.
+     * @return the new number of panels found
+     */
+    private static int mark(int panel, boolean[] marked, int[] found, int count) {
+        if (!marked[panel]) {
+            marked[panel] = true;
+            found[count++] = panel;
+        }
+        return count;
+    }
+
+    /**
+     * @return the panels found in ascending order, unmarking them for the next search
+     */
+    private static int[] collect(boolean[] marked, int[] found, int count) {
+        int[] panels = Arrays.copyOf(found, count);
+        Arrays.sort(panels);
+        for (int panel : panels) {
+            marked[panel] = false;
+        }
+        return panels;
+    }
+
+    /**
+     * Lays lists out one after the other.
+     * @param lists the lists to lay out
+     * @param starts receives where each list starts, and where the last list ends
+     * @return the entries of every list
+     */
+    private static int[] flatten(int[][] lists, int[] starts) {
+        int count = 0;
+        for (int[] list : lists) {
+            count += list.length;
+        }
+        int[] entries = new int[count];
+        int index = 0;
+        for (int i = 0; i < lists.length; i++) {
+            starts[i] = index;
+            System.arraycopy(lists[i], 0, entries, index, lists[i].length);
+            index += lists[i].length;
+        }
+        starts[lists.length] = index;
+        return entries;
+    }
+
+    /**
+     * @return which panels a press toggles
+     */
+    public Topology getTopology() {
+        return topology;
+    }
+
+    /**
+     * @return the number of rows (and columns) of the board
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @param panelNumber the panel pressed
+     * @return the number of panels toggled by pressing the panel, including itself
+     */
+    public int getToggledCount(int panelNumber) {
+        return toggledStarts[panelNumber + 1] - toggledStarts[panelNumber];
+    }
+
+    /**
+     * @param panelNumber the panel pressed
+     * @param index which of the toggled panels, from 0 to @getToggledCount(int)
+     * @return the toggled panel, in ascending order of index
+     */
+    public int getToggled(int panelNumber, int index) {
+        return toggled[toggledStarts[panelNumber] + index];
+    }
+}
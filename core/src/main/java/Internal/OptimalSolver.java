@@ -0,0 +1,118 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite optimal solver
+ *
+ * On sizes where the press matrix is singular (4, 5, 9, 11, ...), pressing a quiet pattern leaves
+ * the board unchanged, so every board has 2^k solutions for k quiet patterns. This solver walks
+ * all of them in Gray code order, one XOR of a quiet pattern per step, and keeps the one with the
+ * fewest presses. The walk takes 2^k steps, so sizes with more than MAX_QUIET_PATTERNS quiet
+ * patterns (39, 47, 61 and 64 of the sizes up to 64) are not searched.
+ */
+public class OptimalSolver {
+    public static final int MAX_QUIET_PATTERNS = 24; // 2^24 solutions take about a second
+    private static final OptimalSolver[] solvers = new OptimalSolver[65];
+
+    private final int size;
+    private final LightChaser chaser;
+    private final long[][] quietPatterns;
+
+    /**
+     * @param size the number of rows (and columns) of the board
+     * @return true if boards of the given size have at most MAX_QUIET_PATTERNS quiet patterns,
+     *         so @forSize(int) can search them
+     */
+    public static boolean supports(int size) {
+        return LightChaser.forSize(size).getQuietPatterns().length <= MAX_QUIET_PATTERNS;
+    }
+
+    /**
+     * Returns the optimal solver for the given board size, computing its quiet patterns on first
+     * use.
+     * @param size the number of rows (and columns) of the board
+     * @return the shared OptimalSolver for that size
+     * @throws IllegalArgumentException if the size has too many solutions to search, see
+     *         @supports(int)
+     */
+    public static synchronized OptimalSolver forSize(int size) {
+        if (!supports(size)) {
+            throw new IllegalArgumentException("boards of size " + size
+                    + " have too many solutions to search");
+        }
+        if (solvers[size] == null) {
+            solvers[size] = new OptimalSolver(size);
+        }
+        return solvers[size];
+    }
+
+    private OptimalSolver(int size) {
+        this.size = size;
+        this.chaser = LightChaser.forSize(size);
+        this.quietPatterns = chaser.getQuietPatterns();
+    }
+
+    /**
+     * Solves the given board with as few presses as possible.
+     * @param board the board to solve, left unchanged
+     * @return the panels to press in ascending order, or null if the board cannot be solved
+     */
+    public int[] solve(Board board) {
+        long[] presses = new long[size];
+        if (!solve(board, presses)) {
+            return null;
+        }
+        return LightChaser.toPanels(presses);
+    }
+
+    /**
+     * Solves the given board with as few presses as possible, writing the presses as packed rows.
+     * @param board the board to solve, left unchanged
+     * @param presses receives the panels to press, bit col of presses[row] is set if the panel
+     *                at row, col needs to be pressed
+     * @return true if the board was solved, false if it cannot be solved
+     */
+    public boolean solve(Board board, long[] presses) {
+        if (!chaser.solve(board, presses)) {
+            return false;
+        }
+        if (quietPatterns.length == 0) {
+            return true;
+        }
+        long[] current = presses.clone();
+        int best = weight(current);
+        int bestIndex = 0;
+        int solutions = 1 << quietPatterns.length;
+        for (int i = 1; i < solutions; i++) {
+            long[] quiet = quietPatterns[Integer.numberOfTrailingZeros(i)];
+            int weight = 0;
+            for (int row = 0; row < size; row++) {
+                current[row] ^= quiet[row];
+                weight += Long.bitCount(current[row]);
+            }
+            if (weight < best) {
+                best = weight;
+                bestIndex = i;
+            }
+        }
+        // the Gray code of bestIndex tells which quiet patterns make up the best solution
+        int gray = bestIndex ^ (bestIndex >>> 1);
+        for (int k = 0; gray != 0; k++, gray >>>= 1) {
+            if ((gray & 1) != 0) {
+                for (int row = 0; row < size; row++) {
+                    presses[row] ^= quietPatterns[k][row];
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int weight(long[] presses) {
+        int weight = 0;
+        for (long row : presses) {
+            weight += Long.bitCount(row);
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,236 @@
+package Internal;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite press matrix
+ *
+ * The pseudo-inverse of the press matrix A of one board size and topology, where column j of A
+ * is the set of panels toggled by pressing j. Solving A * x = b over GF(2) with Gauss-Jordan
+ * elimination on [A | I] takes O(N^6 / 64) word operations, but only depends on the size and
+ * topology. Once the row operations are recorded, the presses for any board are one masked parity
+ * per panel, and the recorded operations that zero out A tell which boards cannot be solved.
+ */
+public class PressMatrix {
+    private final Topology topology;
+    private final int size;
+    private final int cells;
+    private final int words; // longs per row
+    private final int rank;
+    // cells rows of the pseudo-inverse, followed by cells - rank rows that any solvable board
+    // has an even number of black panels in, each words longs long
+    private final LongBuffer data;
+
+    PressMatrix(Topology topology, int size, int rank, LongBuffer data) {
+        this.topology = topology;
+        this.size = size;
+        this.cells = size * size;
+        this.words = wordsFor(size);
+        this.rank = rank;
+        this.data = data;
+        if (data.capacity() != dataLength(size, rank)) {
+            throw new IllegalArgumentException("matrix data does not match size " + size);
+        }
+    }
+
+    /**
+     * Returns the press matrix for the given size on the plane, loading it from the
+     * @PressMatrixCache or computing it on first use.
+     * @param size the number of rows (and columns) of the board
+     * @return the shared PressMatrix for that size
+     */
+    public static PressMatrix forSize(int size) {
+        return forSize(Topology.PLANE, size);
+    }
+
+    /**
+     * Returns the press matrix for the given topology and size, loading it from the
+     * @PressMatrixCache or computing it on first use.
+     * @param topology which panels a press toggles
+     * @param size the number of rows (and columns) of the board
+     * @return the shared PressMatrix for that topology and size
+     */
+    public static PressMatrix forSize(Topology topology, int size) {
+        return PressMatrixCache.get(topology, size);
+    }
+
+    /**
+     * @param size the number of rows (and columns) of the board
+     * @return the number of longs in each row of the matrix
+     */
+    static int wordsFor(int size) {
+        return (size * size + 63) >>> 6;
+    }
+
+    /**
+     * @return the number of longs in the data of a matrix with the given size and rank
+     */
+    static int dataLength(int size, int rank) {
+        return (2 * size * size - rank) * wordsFor(size);
+    }
+
+    /**
+     * Computes the press matrix for the given topology and size with Gauss-Jordan elimination
+     * on [A | I].
+     * @param topology which panels a press toggles
+     * @param size the number of rows (and columns) of the board
+     * @return the computed PressMatrix
+     */
+    static PressMatrix compute(Topology topology, int size) {
+        int cells = size * size;
+        int words = wordsFor(size);
+        long[][] matrix = new long[cells][2 * words]; // [A | I], I starting at word words
+
+        // the presses toggling a panel are the panels it toggles, toggles are symmetric
+        Neighborhood neighborhood = Neighborhood.forSize(topology, size);
+        for (int cell = 0; cell < cells; cell++) {
+            long[] equation = matrix[cell];
+            for (int i = 0; i < neighborhood.getToggledCount(cell); i++) {
+                setBit(equation, 0, neighborhood.getToggled(cell, i));
+            }
+            setBit(equation, words, cell);
+        }
+
+        int[] pivotRows = new int[cells];
+        int rank = 0;
+        for (int col = 0; col < cells; col++) {
+            int word = col >>> 6;
+            long bit = 1L << col;
+            int pivot = rank;
+            while (pivot < cells && (matrix[pivot][word] & bit) == 0) {
+                pivot++;
+            }
+            if (pivot == cells) {
+                pivotRows[col] = -1; // free variable, left unpressed
+                continue;
+            }
+            long[] pivotRow = matrix[pivot];
+            matrix[pivot] = matrix[rank];
+            matrix[rank] = pivotRow;
+            for (int r = 0; r < cells; r++) {
+                long[] other = matrix[r];
+                if (r != rank && (other[word] & bit) != 0) {
+                    // lower words of A only hold free columns, which never affect the solution
+                    for (int w = word; w < 2 * words; w++) {
+                        other[w] ^= pivotRow[w];
+                    }
+                }
+            }
+            pivotRows[col] = rank;
+            rank++;
+        }
+
+        long[] data = new long[dataLength(size, rank)];
+        for (int col = 0; col < cells; col++) {
+            if (pivotRows[col] != -1) {
+                System.arraycopy(matrix[pivotRows[col]], words, data, col * words, words);
+            }
+        }
+        for (int r = rank; r < cells; r++) {
+            System.arraycopy(matrix[r], words, data, (cells + r - rank) * words, words);
+        }
+        return new PressMatrix(topology, size, rank, LongBuffer.wrap(data));
+    }
+
+    /**
+     * @return the topology of the boards this matrix solves
+     */
+    public Topology getTopology() {
+        return topology;
+    }
+
+    /**
+     * @return the number of rows (and columns) of the boards this matrix solves
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the rank of the press matrix, size * size if every board can be solved
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * @return the raw matrix data, as stored by the @PressMatrixCache
+     */
+    LongBuffer getData() {
+        return data.duplicate();
+    }
+
+    /**
+     * Solves the given board.
+     * @param board the board to solve, left unchanged
+     * @return the panels to press in ascending order, or null if the board cannot be solved
+     */
+    public int[] solve(Board board) {
+        long[] presses = new long[words];
+        if (!solve(board, presses)) {
+            return null;
+        }
+        int count = 0;
+        int[] result = new int[cells];
+        for (int w = 0; w < words; w++) {
+            for (long bits = presses[w]; bits != 0; bits &= bits - 1) {
+                result[count++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Solves the given board, writing the presses as packed panels.
+     * @param board the board to solve, left unchanged
+     * @param presses receives the panels to press, bit panel % 64 of presses[panel / 64] is set
+     *                if the panel needs to be pressed
+     * @return true if the board was solved, false if it cannot be solved
+     */
+    boolean solve(Board board, long[] presses) {
+        if (board.getSize() != size || board.getTopology() != topology) {
+            throw new IllegalArgumentException("board must be a " + topology + " of size " + size);
+        }
+        long[] black = new long[words];
+        for (int row = 0; row < size; row++) {
+            long bits = board.getRow(row);
+            int offset = row * size;
+            black[offset >>> 6] |= bits << offset;
+            if ((offset & 63) + size > 64) {
+                black[(offset >>> 6) + 1] |= bits >>> (64 - (offset & 63));
+            }
+        }
+
+        for (int r = cells; r < 2 * cells - rank; r++) {
+            if (parity(r, black)) {
+                return false;
+            }
+        }
+        Arrays.fill(presses, 0, words, 0);
+        for (int col = 0; col < cells; col++) {
+            if (parity(col, black)) {
+                setBit(presses, 0, col);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the given row of the data and the black panels share an odd number of bits
+     */
+    private boolean parity(int row, long[] black) {
+        long bits = 0;
+        int start = row * words;
+        for (int w = 0; w < words; w++) {
+            bits ^= data.get(start + w) & black[w];
+        }
+        return (Long.bitCount(bits) & 1) != 0;
+    }
+
+    private static void setBit(long[] bits, int offset, int index) {
+        bits[offset + (index >>> 6)] |= 1L << index;
+    }
+}
@@ -0,0 +1,159 @@
+package Internal;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Locale;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite press matrix cache
+ *
+ * Keeps the @PressMatrix of every topology and size in memory, and persists them in a directory
+ * so each only has to be computed once per install. Cached files are memory mapped rather than
+ * read, and are recomputed if their version, size or checksum do not match.
+ *
+ * File layout: magic, version, size, rank (ints), checksum of the matrix data (long), then the
+ * matrix data as longs.
+ */
+public class PressMatrixCache {
+    private static final int MAGIC = 0x4232574d; // "B2WM"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+
+    private static final PressMatrix[][] matrices =
+            new PressMatrix[Topology.values().length][65];
+    private static File directory;
+
+    private PressMatrixCache() {
+    }
+
+    /**
+     * Sets the directory the matrices are persisted in. Without a directory, matrices are only
+     * cached in memory.
+     * @param dir the directory to keep the matrix files in, created if it does not exist
+     */
+    public static synchronized void setDirectory(File dir) {
+        directory = dir;
+    }
+
+    /**
+     * Returns the press matrix for the given topology and size, from memory, from disk or
+     * freshly computed, in that order.
+     * @param topology which panels a press toggles
+     * @param size the number of rows (and columns) of the board
+     * @return the PressMatrix for that topology and size
+     */
+    public static synchronized PressMatrix get(Topology topology, int size) {
+        PressMatrix[] sizes = matrices[topology.ordinal()];
+        if (sizes[size] == null) {
+            PressMatrix matrix = directory == null ? null : load(topology, size);
+            if (matrix == null) {
+                matrix = PressMatrix.compute(topology, size);
+                if (directory != null) {
+                    store(matrix);
+                }
+            }
+            sizes[size] = matrix;
+        }
+        return sizes[size];
+    }
+
+    static File fileFor(Topology topology, int size) {
+        String prefix = "press-matrix-";
+        if (topology != Topology.PLANE) {
+            prefix += topology.name().toLowerCase(Locale.US) + "-";
+        }
+        return new File(directory, prefix + size + ".bin");
+    }
+
+    /**
+     * Maps the cached matrix for the given topology and size, bypassing the matrices in memory.
+     * @return the matrix, or null if there is no valid cached matrix for them
+     */
+    static PressMatrix load(Topology topology, int size) {
+        File file = fileFor(topology, size);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            RandomAccessFile in = new RandomAccessFile(file, "r");
+            MappedByteBuffer buffer;
+            try {
+                buffer = in.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, in.length());
+            } finally {
+                in.close(); // the mapping stays valid after the file is closed
+            }
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC
+                    || buffer.getInt(4) != VERSION || buffer.getInt(8) != size) {
+                return null;
+            }
+            int rank = buffer.getInt(12);
+            long checksum = buffer.getLong(16);
+            if (rank < 0 || rank > size * size || buffer.capacity()
+                    != HEADER_BYTES + 8L * PressMatrix.dataLength(size, rank)) {
+                return null;
+            }
+            buffer.position(HEADER_BYTES);
+            LongBuffer data = buffer.slice().asLongBuffer();
+            if (checksum(data) != checksum) {
+                return null;
+            }
+            return new PressMatrix(topology, size, rank, data);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the matrix to its cache file. The cache is only an optimization, so failures are
+     * ignored and the matrix is simply computed again next time.
+     */
+    private static void store(PressMatrix matrix) {
+        LongBuffer data = matrix.getData();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 8 * data.capacity());
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(matrix.getSize()).putInt(matrix.getRank());
+        buffer.putLong(checksum(data));
+        buffer.asLongBuffer().put(data);
+        buffer.rewind();
+
+        File file = fileFor(matrix.getTopology(), matrix.getSize());
+        File temp = new File(directory, file.getName() + ".tmp");
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                return;
+            }
+            FileOutputStream out = new FileOutputStream(temp);
+            try {
+                FileChannel channel = out.getChannel();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } finally {
+                out.close();
+            }
+            if (!temp.renameTo(file)) {
+                temp.delete();
+            }
+        } catch (IOException e) {
+            temp.delete();
+        }
+    }
+
+    /**
+     * @return a 64 bit FNV-1a style checksum of every long in the buffer
+     */
+    private static long checksum(LongBuffer data) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < data.capacity(); i++) {
+            hash = (hash ^ data.get(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+}
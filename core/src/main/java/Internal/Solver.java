@@ -0,0 +1,28 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite solving algorithms
+ */
+public enum Solver {
+    HEURISTIC,     // greedy @HeuristicSolver, one move at a time
+    ELIMINATION,   // exact, Gaussian elimination over GF(2)
+    LIGHT_CHASING, // exact, chases the lights down with a precomputed first row table
+    OPTIMAL;       // exact, the solution with the fewest presses
+
+    /**
+     * Light chasing, and the optimal solver built on it, only work on the plane, and the optimal
+     * solver only searches the sizes @OptimalSolver.supports(int).
+     * @param board the board to solve
+     * @return this solver, or ELIMINATION if this solver cannot solve the board
+     */
+    public Solver forBoard(Board board) {
+        boolean plane = board.getTopology() == Topology.PLANE;
+        if (((this == LIGHT_CHASING || this == OPTIMAL) && !plane)
+                || (this == OPTIMAL && !OptimalSolver.supports(board.getSize()))) {
+            return ELIMINATION;
+        }
+        return this;
+    }
+}
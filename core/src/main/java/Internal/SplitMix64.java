@@ -0,0 +1,83 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite random number generator
+ *
+ * The SplitMix64 generator behind java.util.SplittableRandom, which Android does not have, giving
+ * the same numbers as SplittableRandom from nextLong() and nextInt(int). It is a single long of
+ * state with no locking, and the same seed always gives the same numbers, so a game or benchmark
+ * can be replayed from its seed alone.
+ */
+public class SplitMix64 {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    /**
+     * Constructs a generator with a seed taken from the clock.
+     */
+    public SplitMix64() {
+        this(mix(System.nanoTime()) ^ System.currentTimeMillis());
+    }
+
+    /**
+     * Constructs a generator that always returns the same numbers for a seed.
+     * @param seed the seed of the numbers
+     */
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Restarts the numbers, as if the generator was constructed with the given seed.
+     * @param seed the seed of the numbers
+     */
+    public void setSeed(long seed) {
+        state = seed;
+    }
+
+    /**
+     * @return the next 64 random bits
+     */
+    public long nextLong() {
+        return mix(nextSeed());
+    }
+
+    /**
+     * @param bound the exclusive upper bound, must be positive
+     * @return a uniformly distributed int from 0 up to bound
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int value = mix32(nextSeed());
+        int mask = bound - 1;
+        if ((bound & mask) == 0) { // a power of two takes the low bits as they are
+            return value & mask;
+        }
+        // rejects the few values past the last multiple of bound so every result is equally likely
+        int bits = value >>> 1;
+        while (bits + mask - (value = bits % bound) < 0) {
+            bits = mix32(nextSeed()) >>> 1;
+        }
+        return value;
+    }
+
+    private long nextSeed() {
+        return state += GOLDEN_GAMMA;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+}
@@ -0,0 +1,15 @@
+package Internal;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite board topologies
+ *
+ * Which panels pressing a panel toggles. A panel toggled more than once by the same press, such
+ * as the panel both above and below on a torus of size 2, is toggled once.
+ */
+public enum Topology {
+    PLANE,         // the panel and the panels above, below, left and right of it
+    TORUS,         // the same, but the board wraps around at its edges
+    EIGHT_NEIGHBOR // the panel and the 8 panels around it, including the diagonals
+}
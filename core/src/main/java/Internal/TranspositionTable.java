@@ -0,0 +1,50 @@
+package Internal;
+
+import java.util.Arrays;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite transposition table
+ *
+ * A fixed size set of Zobrist hashes of visited boards. Each hash has a single slot picked by its
+ * low bits, and a newer board evicts whichever board held its slot, so the table never grows and
+ * only forgets boards that were visited long ago.
+ */
+public class TranspositionTable {
+    private final long[] hashes; // 0 marks an empty slot
+    private final int mask;
+
+    /**
+     * Constructs an empty table.
+     * @param bits the table holds up to 2^bits boards
+     */
+    public TranspositionTable(int bits) {
+        this.hashes = new long[1 << bits];
+        this.mask = hashes.length - 1;
+    }
+
+    /**
+     * Records a visited board, evicting the board in its slot.
+     * @param hash the Zobrist hash of the board
+     */
+    public void add(long hash) {
+        hashes[(int) hash & mask] = hash;
+    }
+
+    /**
+     * @param hash the Zobrist hash of a board
+     * @return true if the board was visited and not evicted since. The solved board, hash 0, is
+     *         never reported as visited.
+     */
+    public boolean contains(long hash) {
+        return hash != 0 && hashes[(int) hash & mask] == hash;
+    }
+
+    /**
+     * Forgets every visited board.
+     */
+    public void clear() {
+        Arrays.fill(hashes, 0);
+    }
+}
@@ -0,0 +1,66 @@
+package Internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite bit sliced solver tests
+ */
+public class BitSlicedSolverTest {
+    private static final int[] SIZES = {1, 2, 3, 4, 5, 7, 8, 9, 16, 17, 25, 33, 64};
+
+    @Test
+    public void pressesMatchTheLightChaser() {
+        SplitMix64 random = new SplitMix64(3);
+        for (int size : SIZES) {
+            Board[] boards = randomBoards(size, random);
+            BitSlicedSolver solver = BitSlicedSolver.forSize(size);
+            long[] panels = new long[size * size];
+            long[] presses = new long[size * size];
+            solver.slice(boards, 0, boards.length, panels);
+            long solvable = solver.solve(panels, presses);
+            assertEquals(solvable, solver.solvable(panels));
+            for (int k = 0; k < boards.length; k++) {
+                int[] expected = LightChaser.forSize(size).solve(boards[k]);
+                boolean solved = (solvable >>> k & 1L) != 0;
+                assertEquals(size + " " + k, expected != null, solved);
+                if (solved) {
+                    assertArrayEquals(size + " " + k, expected, solver.toPanels(presses, k));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void partialSlicesLeaveTheOtherBoardsWhite() {
+        SplitMix64 random = new SplitMix64(4);
+        Board[] boards = randomBoards(5, random);
+        BitSlicedSolver solver = BitSlicedSolver.forSize(5);
+        long[] panels = new long[25];
+        solver.slice(boards, 10, 20, panels);
+        for (int panel = 0; panel < 25; panel++) {
+            assertEquals(0, panels[panel] >>> 20);
+            for (int k = 0; k < 20; k++) {
+                assertEquals(boards[10 + k].isBlack(panel), (panels[panel] >>> k & 1L) != 0);
+            }
+        }
+    }
+
+    /**
+     * @return 64 boards, a mix of solvable and (on singular sizes) unsolvable ones
+     */
+    private static Board[] randomBoards(int size, SplitMix64 random) {
+        Board[] boards = new Board[BitSlicedSolver.BOARDS];
+        for (int k = 0; k < boards.length; k++) {
+            boards[k] = new Board(size);
+            for (int row = 0; row < size; row++) {
+                boards[k].setRow(row, random.nextLong() & boards[k].getRowMask());
+            }
+        }
+        return boards;
+    }
+}
@@ -0,0 +1,42 @@
+package Internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite board generator tests
+ */
+public class BoardGeneratorTest {
+    private static final int MIN_BLACK = 2;
+    private static final int MIN_WHITE = 2;
+
+    @Test
+    public void boardsMeetTheMinimumsAndCanBeSolved() {
+        for (int size = 2; size <= 12; size++) {
+            Board board = new Board(size);
+            for (long seed = 0; seed < 200; seed++) {
+                BoardGenerator.generate(board, seed, MIN_BLACK, MIN_WHITE);
+                int black = board.getBlackCount();
+                assertTrue(size + " " + seed, black >= MIN_BLACK);
+                assertTrue(size + " " + seed, size * size - black >= MIN_WHITE);
+                assertNotNull(size + " " + seed, LinearSolver.solve(board));
+            }
+        }
+    }
+
+    @Test
+    public void sameSeedGivesTheSameBoard() {
+        Board first = new Board(9);
+        Board second = new Board(9);
+        for (long seed = 0; seed < 50; seed++) {
+            BoardGenerator.generate(first, seed, MIN_BLACK, MIN_WHITE);
+            BoardGenerator.generate(second, seed, MIN_BLACK, MIN_WHITE);
+            assertEquals(first, second);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package Internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite board tests
+ */
+public class BoardTest {
+
+    @Test
+    public void compactIdsRoundTripOnEverySize() {
+        SplitMix64 random = new SplitMix64(1);
+        for (int size = 1; size <= 64; size++) {
+            Board board = new Board(size);
+            for (int row = 0; row < size; row++) {
+                board.setRow(row, random.nextLong() & board.getRowMask());
+            }
+            String id = board.toString();
+            assertEquals(size, Board.sizeOf(id));
+            Board loaded = new Board(size);
+            assertTrue(loaded.load(id));
+            assertEquals(board, loaded);
+        }
+    }
+
+    @Test
+    public void legacyIdsLoad() {
+        Board board = new Board(3);
+        assertEquals(3, Board.sizeOf("100010001"));
+        assertTrue(board.load("100010001"));
+        assertEquals(3, board.getBlackCount());
+        assertTrue(board.isBlack(0));
+        assertTrue(board.isBlack(4));
+        assertTrue(board.isBlack(8));
+    }
+
+    @Test
+    public void invalidIdsLeaveTheBoardUnchanged() {
+        Board board = new Board(3);
+        board.press(4);
+        Board before = new Board(board);
+        String[] invalid = {"", "abcdefghi", "10001000x", "1000100011", board.toString() + "A",
+                new Board(4).toString()};
+        for (String id : invalid) {
+            assertFalse(id, board.load(id));
+            assertEquals(id, before, board);
+        }
+        assertEquals(-1, Board.sizeOf("abcdefghi"));
+        assertEquals(-1, Board.sizeOf(""));
+    }
+
+    @Test
+    public void pressTogglesTheNeighborsOfItsTopology() {
+        for (Topology topology : Topology.values()) {
+            for (int size = 1; size <= 8; size++) {
+                for (int panel = 0; panel < size * size; panel++) {
+                    Board board = new Board(size, topology);
+                    board.press(panel);
+                    for (int other = 0; other < size * size; other++) {
+                        assertEquals(topology + " " + size + " " + panel + " " + other,
+                                toggles(topology, size, panel, other), board.isBlack(other));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void pressRowMatchesSinglePresses() {
+        SplitMix64 random = new SplitMix64(2);
+        for (Topology topology : Topology.values()) {
+            for (int size = 1; size <= 12; size++) {
+                Board rows = new Board(size, topology);
+                Board presses = new Board(size, topology);
+                for (int row = 0; row < size; row++) {
+                    long panels = random.nextLong() & rows.getRowMask();
+                    rows.pressRow(row, panels);
+                    for (int col = 0; col < size; col++) {
+                        if ((panels >>> col & 1L) != 0) {
+                            presses.press(row * size + col);
+                        }
+                    }
+                }
+                assertEquals(topology + " " + size, presses, rows);
+            }
+        }
+    }
+
+    /**
+     * @return true if pressing panel toggles other, worked out from the rows and columns
+     */
+    private static boolean toggles(Topology topology, int size, int panel, int other) {
+        int rows = Math.abs(panel / size - other / size);
+        int cols = Math.abs(panel % size - other % size);
+        if (topology == Topology.TORUS) {
+            rows = Math.min(rows, size - rows);
+            cols = Math.min(cols, size - cols);
+        }
+        if (topology == Topology.EIGHT_NEIGHBOR) {
+            return rows <= 1 && cols <= 1;
+        }
+        return rows + cols <= 1;
+    }
+}
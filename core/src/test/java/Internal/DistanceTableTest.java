@@ -0,0 +1,85 @@
+package Internal;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite distance table tests
+ */
+public class DistanceTableTest {
+
+    @Test
+    public void followsTheFewestPressesOnEveryTopology() {
+        for (Topology topology : Topology.values()) {
+            for (int size = 1; size <= DistanceTable.MAX_SIZE; size++) {
+                int[] fewest = fewestPresses(topology, size);
+                DistanceTable table = DistanceTable.forSize(topology, size);
+                for (int state = 0; state < fewest.length; state++) {
+                    Board board = toBoard(topology, size, state);
+                    int presses = 0;
+                    for (int panel = table.nextPress(board); panel != -1;
+                         panel = table.nextPress(board)) {
+                        board.press(panel);
+                        presses++;
+                    }
+                    int expected = fewest[state];
+                    assertEquals(topology + " " + size + " " + state,
+                            expected, board.isSolved() ? presses : -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Presses every set of panels once, so the fewest presses of a board is the smallest set
+     * of presses that makes it.
+     * @return the fewest presses of every board, indexed by its panels as bits, -1 if none
+     */
+    private static int[] fewestPresses(Topology topology, int size) {
+        int cells = size * size;
+        int[] pressBoards = new int[cells];
+        for (int panel = 0; panel < cells; panel++) {
+            Board board = new Board(size, topology);
+            board.press(panel);
+            pressBoards[panel] = toState(board);
+        }
+        int[] fewest = new int[1 << cells];
+        Arrays.fill(fewest, -1);
+        for (int presses = 0; presses < 1 << cells; presses++) {
+            int state = 0;
+            for (int panel = 0; panel < cells; panel++) {
+                if ((presses >>> panel & 1) != 0) {
+                    state ^= pressBoards[panel];
+                }
+            }
+            int count = Integer.bitCount(presses);
+            if (fewest[state] == -1 || count < fewest[state]) {
+                fewest[state] = count;
+            }
+        }
+        return fewest;
+    }
+
+    private static int toState(Board board) {
+        int state = 0;
+        for (int panel = 0; panel < board.getSize() * board.getSize(); panel++) {
+            if (board.isBlack(panel)) {
+                state |= 1 << panel;
+            }
+        }
+        return state;
+    }
+
+    private static Board toBoard(Topology topology, int size, int state) {
+        Board board = new Board(size, topology);
+        for (int panel = 0; panel < size * size; panel++) {
+            board.setBlack(panel, (state >>> panel & 1) != 0);
+        }
+        return board;
+    }
+}
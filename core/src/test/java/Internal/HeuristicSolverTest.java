@@ -0,0 +1,141 @@
+package Internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite heuristic solver tests
+ */
+public class HeuristicSolverTest {
+
+    @Test
+    public void incrementalScoresMatchAFreshSolver() {
+        SplitMix64 random = new SplitMix64(10);
+        for (Topology topology : Topology.values()) {
+            for (int size = 1; size <= 9; size++) {
+                Board board = new Board(size, topology);
+                BoardGenerator.generate(board, random.nextLong(), 0, 0);
+                HeuristicSolver heuristic = new HeuristicSolver(board);
+                for (int i = 0; i < 100; i++) {
+                    heuristic.press(random.nextInt(size * size));
+                    HeuristicSolver fresh = new HeuristicSolver(new Board(board));
+                    String message = topology + " " + size + " " + i;
+                    assertEquals(message, board.getBlackCount(), heuristic.getBlackCount());
+                    for (int panel = 0; panel < size * size; panel++) {
+                        assertEquals(message, fresh.getScore(panel), heuristic.getScore(panel),
+                                0);
+                        assertEquals(message, heuristic.analyze(panel),
+                                heuristic.getScore(panel), 0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void resetRescoresAfterOutsideChanges() {
+        Board board = new Board(6);
+        HeuristicSolver heuristic = new HeuristicSolver(board);
+        BoardGenerator.generate(board, 11, 2, 2);
+        heuristic.reset();
+        HeuristicSolver fresh = new HeuristicSolver(new Board(board));
+        assertEquals(board.getBlackCount(), heuristic.getBlackCount());
+        for (int panel = 0; panel < 36; panel++) {
+            assertEquals(fresh.getScore(panel), heuristic.getScore(panel), 0);
+        }
+    }
+
+    @Test
+    public void resetOntoAnotherBoardPlaysLikeAFreshSolver() {
+        SplitMix64 random = new SplitMix64(0);
+        Board first = new Board(7, Topology.TORUS);
+        BoardGenerator.generate(first, 13, 0, 0);
+        HeuristicSolver reused = new HeuristicSolver(first, random);
+        for (int i = 0, move = -1; i < 50; i++) {
+            move = reused.nextMove(move);
+            reused.press(move);
+        }
+
+        Board board = new Board(7, Topology.TORUS);
+        BoardGenerator.generate(board, 14, 0, 0);
+        Board copy = new Board(board);
+        random.setSeed(0);
+        reused.reset(board);
+        HeuristicSolver fresh = new HeuristicSolver(copy);
+        assertEquals(fresh.getHash(), reused.getHash());
+        assertEquals(fresh.getBlackCount(), reused.getBlackCount());
+        for (int i = 0, last = -1; i < 200 && !board.isSolved(); i++) {
+            int move = reused.nextMove(last);
+            assertEquals(i + "", fresh.nextMove(last), move);
+            reused.press(move);
+            fresh.press(move);
+            last = move;
+        }
+        assertEquals(copy, board);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void resetRefusesBoardsOfAnotherShape() {
+        new HeuristicSolver(new Board(5)).reset(new Board(5, Topology.TORUS));
+    }
+
+    @Test
+    public void zobristHashesMatchAFreshSolver() {
+        SplitMix64 random = new SplitMix64(12);
+        for (Topology topology : Topology.values()) {
+            for (int size = 2; size <= 9; size++) {
+                Board board = new Board(size, topology);
+                BoardGenerator.generate(board, random.nextLong(), 0, 0);
+                HeuristicSolver heuristic = new HeuristicSolver(board);
+                for (int i = 0; i < 100; i++) {
+                    int panel = random.nextInt(size * size);
+                    long before = heuristic.getHash();
+                    heuristic.press(panel);
+                    assertEquals(new HeuristicSolver(new Board(board)).getHash(),
+                            heuristic.getHash());
+                    assertEquals(board.isSolved(), heuristic.getHash() == 0);
+                    heuristic.press(panel);
+                    assertEquals(before, heuristic.getHash()); // a press undoes itself
+                    heuristic.press(panel);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void differentBoardsHashDifferently() {
+        Board board = new Board(5);
+        HeuristicSolver heuristic = new HeuristicSolver(board);
+        assertEquals(0, heuristic.getHash());
+        heuristic.press(0);
+        long corner = heuristic.getHash();
+        heuristic.press(0);
+        heuristic.press(12);
+        assertNotEquals(corner, heuristic.getHash());
+    }
+
+    @Test
+    public void cycleDetectionSolvesEverySmallBoard() {
+        // without it the heuristic looped forever on 2x2 boards
+        for (int size = 2; size <= 3; size++) {
+            for (int state = 0; state < 1 << (size * size); state++) {
+                Board board = new Board(size);
+                for (int panel = 0; panel < size * size; panel++) {
+                    board.setBlack(panel, (state >>> panel & 1) != 0);
+                }
+                HeuristicSolver heuristic = new HeuristicSolver(board);
+                int lastMove = -1;
+                for (int moves = 0; moves < 100 * size * size && !board.isSolved(); moves++) {
+                    lastMove = heuristic.nextMove(lastMove);
+                    heuristic.press(lastMove);
+                }
+                assertTrue(size + " " + state, board.isSolved());
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package Internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite hint vector tests
+ */
+public class HintVectorTest {
+
+    @Test
+    public void staysEqualToAFreshSolveThroughPresses() {
+        SplitMix64 random = new SplitMix64(5);
+        for (Topology topology : Topology.values()) {
+            for (int size = 1; size <= 12; size++) {
+                Board board = new Board(size, topology);
+                BoardGenerator.generate(board, random.nextLong(), 0, 0);
+                HintVector hints = new HintVector(board);
+                for (int i = 0; i < 200; i++) {
+                    int panel = random.nextInt(size * size);
+                    board.press(panel);
+                    hints.press(panel);
+                }
+                assertArrayEquals(topology + " " + size, LinearSolver.solve(board),
+                        pressed(hints, size));
+            }
+        }
+    }
+
+    @Test
+    public void everyHintLeavesOnePressLess() {
+        SplitMix64 random = new SplitMix64(6);
+        for (Topology topology : Topology.values()) {
+            for (int size = 1; size <= 12; size++) {
+                Board board = new Board(size, topology);
+                BoardGenerator.generate(board, random.nextLong(), 0, 0);
+                HintVector hints = new HintVector(board);
+                int left = hints.getPressCount();
+                for (int panel = hints.nextPress(); panel != -1; panel = hints.nextPress()) {
+                    board.press(panel);
+                    hints.press(panel);
+                    assertEquals(topology + " " + size, --left, hints.getPressCount());
+                }
+                assertTrue(topology + " " + size, board.isSolved());
+            }
+        }
+    }
+
+    @Test
+    public void unsolvableBoardsGetNoHint() {
+        Board board = new Board(4); // 4x4 has quiet patterns, so a single black panel is stuck
+        board.setBlack(0, true);
+        HintVector hints = new HintVector(board);
+        assertEquals(-1, hints.nextPress());
+        assertEquals(-1, hints.getPressCount());
+    }
+
+    private static int[] pressed(HintVector hints, int size) {
+        int[] panels = new int[size * size];
+        int count = 0;
+        for (int panel = 0; panel < size * size; panel++) {
+            if (hints.isPressed(panel)) {
+                panels[count++] = panel;
+            }
+        }
+        int[] result = new int[count];
+        System.arraycopy(panels, 0, result, 0, count);
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package Internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite indexed max heap tests
+ */
+public class IndexedMaxHeapTest {
+
+    @Test
+    public void bestFollowsIncreasesAndDecreases() {
+        SplitMix64 random = new SplitMix64(9);
+        double[] scores = new double[50];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextInt(10);
+        }
+        IndexedMaxHeap heap = new IndexedMaxHeap(scores);
+        for (int step = 0; step < 2000; step++) {
+            int panel = random.nextInt(scores.length);
+            // alternately raise a score above every other and drop it below every other
+            scores[panel] = step % 3 == 0 ? 10 + random.nextInt(5)
+                    : step % 3 == 1 ? -random.nextInt(5) : random.nextInt(10);
+            heap.update(panel);
+            int excluded = random.nextInt(scores.length);
+            assertEquals(best(scores, -1), heap.best(-1));
+            assertEquals(best(scores, excluded), heap.best(excluded));
+        }
+    }
+
+    @Test
+    public void rebuildReordersAfterManyChanges() {
+        double[] scores = {1, 2, 3, 4, 5};
+        IndexedMaxHeap heap = new IndexedMaxHeap(scores);
+        assertEquals(4, heap.best(-1));
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = -scores[i];
+        }
+        heap.rebuild();
+        assertEquals(0, heap.best(-1));
+        assertEquals(1, heap.best(0));
+    }
+
+    @Test
+    public void equalScoresPreferTheLowerPanel() {
+        double[] scores = {3, 7, 7, 1, 7};
+        IndexedMaxHeap heap = new IndexedMaxHeap(scores);
+        assertEquals(1, heap.best(-1));
+        assertEquals(2, heap.best(1));
+        scores[1] = 0;
+        heap.update(1);
+        assertEquals(2, heap.best(-1));
+        assertEquals(4, heap.best(2));
+    }
+
+    @Test
+    public void tinyHeaps() {
+        assertEquals(-1, new IndexedMaxHeap(new double[0]).best(-1));
+        IndexedMaxHeap single = new IndexedMaxHeap(new double[] {5});
+        assertEquals(0, single.best(-1));
+        assertEquals(-1, single.best(0));
+    }
+
+    /**
+     * @return the highest scoring panel other than excluded by a linear scan, lower panels
+     *         first on ties
+     */
+    private static int best(double[] scores, int excluded) {
+        int best = -1;
+        for (int i = 0; i < scores.length; i++) {
+            if (i != excluded && (best == -1 || scores[i] > scores[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
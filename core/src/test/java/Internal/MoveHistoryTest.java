@@ -0,0 +1,102 @@
+package Internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite move history tests
+ */
+public class MoveHistoryTest {
+
+    @Test
+    public void undoAndRedoStepThroughTheMoves() {
+        MoveHistory moves = new MoveHistory();
+        assertEquals(-1, moves.undo());
+        assertEquals(-1, moves.redo());
+        moves.record(3);
+        moves.record(5);
+        moves.record(7);
+        assertEquals(7, moves.undo());
+        assertEquals(5, moves.undo());
+        assertEquals(3, moves.last());
+        assertEquals(5, moves.redo());
+        assertEquals(7, moves.redo());
+        assertEquals(-1, moves.redo());
+        assertArrayEquals(new int[] {3, 5, 7}, moves.toArray());
+    }
+
+    @Test
+    public void recordingAfterUndoStartsANewBranch() {
+        MoveHistory moves = new MoveHistory();
+        moves.record(1);
+        moves.record(2);
+        moves.record(3);
+        moves.undo();
+        moves.undo();
+        moves.record(8);
+        assertEquals(-1, moves.redo()); // 2 and 3 were on the old branch
+        assertEquals(2, moves.getEnd());
+        assertArrayEquals(new int[] {1, 8}, moves.toArray());
+        assertEquals(8, moves.undo());
+        assertEquals(8, moves.redo());
+    }
+
+    @Test
+    public void growsPastItsInitialCapacity() {
+        MoveHistory moves = new MoveHistory();
+        int[] expected = new int[100];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i % 9;
+            moves.record(expected[i]);
+        }
+        assertArrayEquals(expected, moves.toArray());
+    }
+
+    @Test
+    public void jumpToMatchesReplayingTheMoves() {
+        SplitMix64 random = new SplitMix64(13);
+        for (Topology topology : Topology.values()) {
+            Board board = new Board(7, topology);
+            BoardGenerator.generate(board, 14, 0, 0);
+            Board start = new Board(board);
+            MoveHistory moves = new MoveHistory();
+            for (int i = 0; i < 60; i++) {
+                int panel = random.nextInt(49);
+                board.press(panel);
+                moves.record(panel);
+            }
+            for (int i = 0; i < 20; i++) {
+                int position = random.nextInt(moves.getEnd() + 1);
+                moves.jumpTo(position, board);
+                Board replayed = new Board(start);
+                int[] made = moves.toArray();
+                assertEquals(position, made.length);
+                for (int panel : made) {
+                    replayed.press(panel);
+                }
+                assertEquals(topology + " " + position, replayed, board);
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void jumpPastTheEndIsRefused() {
+        MoveHistory moves = new MoveHistory();
+        moves.record(0);
+        moves.jumpTo(2, new Board(3));
+    }
+
+    @Test
+    public void clearForgetsEveryMove() {
+        MoveHistory moves = new MoveHistory();
+        moves.record(4);
+        moves.clear();
+        assertEquals(-1, moves.last());
+        assertEquals(-1, moves.redo());
+        assertEquals(0, moves.toArray().length);
+    }
+}
@@ -0,0 +1,85 @@
+package Internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite optimal solver tests
+ */
+public class OptimalSolverTest {
+
+    @Test
+    public void matchesTheDistanceTable() {
+        SplitMix64 random = new SplitMix64(8);
+        for (int size = 1; size <= DistanceTable.MAX_SIZE; size++) {
+            DistanceTable table = DistanceTable.forSize(size);
+            for (int i = 0; i < 500; i++) {
+                Board board = new Board(size);
+                for (int row = 0; row < size; row++) {
+                    board.setRow(row, random.nextLong() & board.getRowMask());
+                }
+                int[] presses = OptimalSolver.forSize(size).solve(board);
+                int distance = distance(table, new Board(board));
+                if (presses == null) {
+                    assertEquals(-1, distance);
+                } else {
+                    assertEquals(distance, presses.length);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void findsTheFewestPressesOnTheLargestSearchedSizes() {
+        for (int size : new int[] {19, 30, 62}) {
+            assertTrue(OptimalSolver.supports(size));
+            Board board = new Board(size);
+            board.press(0);
+            board.press(size / 2);
+            assertEquals(size + "", 2, OptimalSolver.forSize(size).solve(board).length);
+        }
+    }
+
+    @Test
+    public void refusesSizesWithTooManyQuietPatterns() {
+        // 2^32 solutions at 39 once overflowed to a search of a single solution
+        for (int size : new int[] {39, 47, 61, 64}) {
+            assertFalse(OptimalSolver.supports(size));
+            try {
+                OptimalSolver.forSize(size);
+                fail("size " + size + " was searched");
+            } catch (IllegalArgumentException expected) {
+                // too many quiet patterns
+            }
+            assertEquals(Solver.ELIMINATION, Solver.OPTIMAL.forBoard(new Board(size)));
+        }
+        assertEquals(Solver.OPTIMAL, Solver.OPTIMAL.forBoard(new Board(25)));
+    }
+
+    @Test
+    public void unsolvableBoardsHaveNoSolution() {
+        Board board = new Board(5);
+        board.setBlack(0, true);
+        assertNull(OptimalSolver.forSize(5).solve(board));
+    }
+
+    /**
+     * @return the fewest presses to solve the board by following the table, or -1 if it cannot
+     *         be solved
+     */
+    private static int distance(DistanceTable table, Board board) {
+        int presses = 0;
+        for (int panel = table.nextPress(board); panel != -1; panel = table.nextPress(board)) {
+            board.press(panel);
+            presses++;
+        }
+        return board.isSolved() ? presses : -1;
+    }
+}
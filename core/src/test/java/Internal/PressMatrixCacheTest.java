@@ -0,0 +1,80 @@
+package Internal;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite press matrix cache tests
+ *
+ * Uses eight neighbor sizes no other test solves, since matrices stay in memory once computed.
+ */
+public class PressMatrixCacheTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void forgetDirectory() {
+        PressMatrixCache.setDirectory(null);
+    }
+
+    @Test
+    public void storedMatricesLoadBack() throws IOException {
+        PressMatrixCache.setDirectory(folder.getRoot());
+        PressMatrix computed = PressMatrixCache.get(Topology.EIGHT_NEIGHBOR, 13);
+        assertTrue(PressMatrixCache.fileFor(Topology.EIGHT_NEIGHBOR, 13).isFile());
+
+        PressMatrix loaded = PressMatrixCache.load(Topology.EIGHT_NEIGHBOR, 13);
+        assertNotNull(loaded);
+        assertEquals(computed.getRank(), loaded.getRank());
+        Board board = new Board(13, Topology.EIGHT_NEIGHBOR);
+        BoardGenerator.generate(board, 7, 0, 0);
+        assertArrayEquals(computed.solve(board), loaded.solve(board));
+    }
+
+    @Test
+    public void corruptFilesAreNotLoaded() throws IOException {
+        PressMatrixCache.setDirectory(folder.getRoot());
+        PressMatrixCache.get(Topology.EIGHT_NEIGHBOR, 14);
+        File file = PressMatrixCache.fileFor(Topology.EIGHT_NEIGHBOR, 14);
+
+        RandomAccessFile out = new RandomAccessFile(file, "rw");
+        try {
+            long last = out.length() - 1;
+            out.seek(last);
+            int value = out.read();
+            out.seek(last);
+            out.write(value ^ 1); // flips a bit of the matrix data, failing the checksum
+        } finally {
+            out.close();
+        }
+        assertNull(PressMatrixCache.load(Topology.EIGHT_NEIGHBOR, 14));
+
+        out = new RandomAccessFile(file, "rw");
+        try {
+            out.setLength(out.length() - 8);
+        } finally {
+            out.close();
+        }
+        assertNull(PressMatrixCache.load(Topology.EIGHT_NEIGHBOR, 14));
+    }
+
+    @Test
+    public void missingFilesAreNotLoaded() {
+        PressMatrixCache.setDirectory(folder.getRoot());
+        assertNull(PressMatrixCache.load(Topology.TORUS, 3));
+    }
+}
@@ -0,0 +1,55 @@
+package Internal;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite random number generator tests
+ */
+public class SplitMix64Test {
+
+    @Test
+    public void longsMatchSplittableRandom() {
+        for (long seed = -3; seed < 3; seed++) {
+            SplitMix64 random = new SplitMix64(seed);
+            SplittableRandom expected = new SplittableRandom(seed);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(expected.nextLong(), random.nextLong());
+            }
+        }
+    }
+
+    @Test
+    public void boundedIntsMatchSplittableRandom() {
+        int[] bounds = {1, 2, 3, 7, 16, 25, 100, 4096, 1 << 30, (1 << 30) + 1, Integer.MAX_VALUE};
+        for (int bound : bounds) {
+            SplitMix64 random = new SplitMix64(bound);
+            SplittableRandom expected = new SplittableRandom(bound);
+            for (int i = 0; i < 1000; i++) {
+                int value = random.nextInt(bound);
+                assertEquals(bound + "", expected.nextInt(bound), value);
+                assertTrue(value >= 0 && value < bound);
+            }
+        }
+    }
+
+    @Test
+    public void setSeedRestartsTheNumbers() {
+        SplitMix64 random = new SplitMix64(42);
+        long first = random.nextLong();
+        random.nextInt(10);
+        random.setSeed(42);
+        assertEquals(first, random.nextLong());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void boundMustBePositive() {
+        new SplitMix64(0).nextInt(0);
+    }
+}
@@ -0,0 +1,56 @@
+package Internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Justin Harjanto and Daniel Fang
+ * Created 10/18/2026
+ * BlackToWhite transposition table tests
+ */
+public class TranspositionTableTest {
+
+    @Test
+    public void remembersAddedBoards() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.add(0x123456789L);
+        table.add(0x2L);
+        assertTrue(table.contains(0x123456789L));
+        assertTrue(table.contains(0x2L));
+        assertFalse(table.contains(0x3L));
+    }
+
+    @Test
+    public void newerBoardsEvictTheirSlot() {
+        TranspositionTable table = new TranspositionTable(4);
+        long older = 0x15L;
+        long newer = 0x25L; // same low 4 bits
+        table.add(older);
+        table.add(newer);
+        assertFalse(table.contains(older));
+        assertTrue(table.contains(newer));
+        table.add(0x26L); // another slot leaves it alone
+        assertTrue(table.contains(newer));
+    }
+
+    @Test
+    public void solvedBoardIsNeverVisited() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.add(0);
+        assertFalse(table.contains(0));
+    }
+
+    @Test
+    public void clearForgetsEveryBoard() {
+        TranspositionTable table = new TranspositionTable(4);
+        for (long hash = 1; hash < 16; hash++) {
+            table.add(hash);
+        }
+        table.clear();
+        for (long hash = 1; hash < 16; hash++) {
+            assertFalse(table.contains(hash));
+        }
+    }
+}